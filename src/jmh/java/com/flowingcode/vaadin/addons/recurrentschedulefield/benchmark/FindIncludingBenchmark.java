@@ -0,0 +1,111 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.benchmark;
+
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRangeStore;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Finds the ranges that are active at a given date-time, by looping {@link DateTimeRange#includes}
+ * and by scanning a {@link DateTimeRangeStore} with the scalar and the Vector API evaluators.
+ * The Vector API one is only used if the benchmarks are built with the {@code vector} profile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindIncludingBenchmark {
+
+  @Param({"10000", "1000000"})
+  private int size;
+
+  private final List<DateTimeRange> ranges = new ArrayList<>();
+  private DateTimeRangeStore store;
+  // A Wednesday in the middle of the ranges
+  private final LocalDateTime dateTime = LocalDateTime.of(2025, 3, 12, 10, 30);
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    store = new DateTimeRangeStore(size);
+    for (int i = 0; i < size; i++) {
+      LocalDate startDate = LocalDate.of(2025, 1, 1).plusDays(random.nextInt(90));
+      int startMinute = random.nextInt(1439);
+      LocalTime endTime = random.nextInt(4) == 0 ? LocalTime.MAX
+          : LocalTime.of(0, 0).plusMinutes(startMinute + 1 + random.nextInt(1439 - startMinute));
+      Set<DayOfWeek> weekDays = EnumSet.noneOf(DayOfWeek.class);
+      while (weekDays.isEmpty() || random.nextBoolean()) {
+        weekDays.add(DayOfWeek.of(1 + random.nextInt(7)));
+      }
+      DateTimeRange range = new DateTimeRange(startDate, startDate.plusDays(1 + random.nextInt(90)),
+          LocalTime.of(0, 0).plusMinutes(startMinute), endTime, weekDays);
+      range.setWeekInterval(1 + random.nextInt(3));
+      ranges.add(range);
+      store.add(range);
+    }
+  }
+
+  @Benchmark
+  public BitSet includes() {
+    BitSet found = new BitSet();
+    for (int i = 0; i < ranges.size(); i++) {
+      if (ranges.get(i).includes(dateTime)) {
+        found.set(i);
+      }
+    }
+    return found;
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = "-D" + DateTimeRangeStore.VECTOR_SCAN_PROPERTY + "=false")
+  public BitSet findIncludingScalar() {
+    return store.findIncluding(dateTime);
+  }
+
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+  public BitSet findIncludingVector() {
+    return store.findIncluding(dateTime);
+  }
+}
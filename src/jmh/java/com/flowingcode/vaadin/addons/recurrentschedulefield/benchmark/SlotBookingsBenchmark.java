@@ -0,0 +1,91 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.benchmark;
+
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.SlotBookings;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.TimeSlots;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reserves and releases places of a {@link SlotBookings} from several threads that compete for
+ * a few hot slots, one slot at a time and several consecutive slots at a time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class SlotBookingsBenchmark {
+
+  // Number of slots the threads compete for
+  @Param({"4", "1024"})
+  private int hotSlots;
+
+  private SlotBookings bookings;
+
+  @Setup
+  public void setup() {
+    // One year of 30-minute slots, all day long
+    TimeSlots slots = new TimeSlots(
+        new DateTimeRange(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1), LocalTime.MIN,
+            LocalTime.MAX),
+        Duration.ofMinutes(30));
+    bookings = new SlotBookings(slots, 4);
+  }
+
+  @Benchmark
+  public boolean reserveAndRelease() {
+    long index = ThreadLocalRandom.current().nextInt(hotSlots);
+    if (bookings.reserve(index)) {
+      bookings.release(index);
+      return true;
+    }
+    return false;
+  }
+
+  @Benchmark
+  public boolean reserveAndReleaseSeveral() {
+    long index = ThreadLocalRandom.current().nextInt(hotSlots);
+    if (bookings.reserve(index, 3)) {
+      bookings.release(index, 3);
+      return true;
+    }
+    return false;
+  }
+}
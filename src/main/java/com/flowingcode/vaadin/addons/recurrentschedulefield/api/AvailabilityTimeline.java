@@ -0,0 +1,129 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * The union of the intervals of several {@link DateTimeRange} objects, as a sorted sequence of
+ * disjoint intervals.
+ *
+ * <p>
+ * Overlapping and adjacent intervals are coalesced into a single one. The timeline is computed
+ * lazily through a k-way merge of the intervals of each range, so iterating it takes
+ * {@code O(n log k)} time and {@code O(k)} memory, where {@code n} is the number of intervals and
+ * {@code k} the number of ranges.
+ * </p>
+ *
+ * @author Flowing Code
+ */
+public class AvailabilityTimeline implements Iterable<TimeInterval> {
+
+  private final List<DateTimeRange> ranges;
+  private final LocalDateTime from;
+
+  /**
+   * Creates the timeline of the intervals of the given ranges that end after the given date-time.
+   *
+   * @param ranges the ranges whose intervals are combined
+   * @param from the date-time after which intervals must end
+   */
+  public AvailabilityTimeline(Collection<DateTimeRange> ranges, LocalDateTime from) {
+    this.ranges = List.copyOf(ranges);
+    this.from = from;
+  }
+
+  /**
+   * Returns an iterator over the coalesced intervals, sorted by their start.
+   */
+  @Override
+  public Iterator<TimeInterval> iterator() {
+    List<Iterator<TimeInterval>> iterators = new ArrayList<>(ranges.size());
+    for (DateTimeRange range : ranges) {
+      iterators.add(range.iterator(from));
+    }
+    return new CoalescingIterator(new MergingIterator(iterators));
+  }
+
+  /**
+   * Gets the coalesced intervals that start before the given date-time.
+   *
+   * @param to the exclusive upper bound for the start of the intervals
+   * @return a list of disjoint {@link TimeInterval} objects, sorted by their start
+   */
+  public List<TimeInterval> getIntervals(LocalDateTime to) {
+    List<TimeInterval> intervals = new ArrayList<>();
+    Iterator<TimeInterval> iterator = iterator();
+    while (iterator.hasNext()) {
+      TimeInterval interval = iterator.next();
+      if (!interval.getStartDate().isBefore(to)) {
+        break;
+      }
+      intervals.add(interval);
+    }
+    return intervals;
+  }
+
+  private static final class CoalescingIterator implements Iterator<TimeInterval> {
+
+    private final MergingIterator merged;
+
+    private CoalescingIterator(MergingIterator merged) {
+      this.merged = merged;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return merged.hasNext();
+    }
+
+    @Override
+    public TimeInterval next() {
+      if (!merged.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      TimeInterval first = merged.next();
+      LocalDateTime start = first.getStartDate();
+      LocalDateTime end = first.getEndDate();
+      boolean extended = false;
+      // Intervals arrive sorted by start, so everything that starts before the current end joins it
+      while (merged.hasNext() && touches(end, merged.peek().getStartDate())) {
+        LocalDateTime otherEnd = merged.next().getEndDate();
+        if (otherEnd.isAfter(end)) {
+          end = otherEnd;
+          extended = true;
+        }
+      }
+      return extended ? new TimeInterval(start, end) : first;
+    }
+
+    private static boolean touches(LocalDateTime end, LocalDateTime start) {
+      // An interval that ends at LocalTime.MAX lasts until midnight
+      return !start.isAfter(end)
+          || end.toLocalTime().equals(LocalTime.MAX) && start.equals(end.plusNanos(1));
+    }
+  }
+}
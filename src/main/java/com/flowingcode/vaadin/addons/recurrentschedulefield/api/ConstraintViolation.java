@@ -0,0 +1,89 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The rules that a schedule may break when checked against {@link DateTimeRangeConstraints}.
+ *
+ * <p>
+ * Validation results are reported as an {@code int} bitmask, where each violation is represented by
+ * its {@link #mask()}, so that checking large batches does not allocate any result object.
+ * </p>
+ *
+ * @author Flowing Code
+ * @see DateTimeRangeConstraints#validate(DateTimeRange)
+ */
+public enum ConstraintViolation {
+
+  /** Start or end date is missing. */
+  INCOMPLETE_DATES,
+  /** Start date is not before end date. */
+  INVALID_DATES_ORDER,
+  /** Days between start and end dates exceed the maximum span. */
+  DATES_SPAN_EXCEEDED,
+  /** Start or end date is outside the minimum and maximum dates. */
+  DATES_OUT_OF_BOUNDS,
+  /** No day of the week is selected. */
+  INCOMPLETE_DAYS,
+  /** A selected day of the week is not allowed. */
+  DAYS_NOT_ALLOWED,
+  /** Start or end time is missing. */
+  INCOMPLETE_TIMES,
+  /** Start time is not before end time. */
+  INVALID_TIMES_ORDER,
+  /** Start or end time is outside the minimum and maximum times. */
+  TIMES_OUT_OF_BOUNDS;
+
+  /**
+   * Gets the bit that represents this violation in a validation result.
+   */
+  public int mask() {
+    return 1 << ordinal();
+  }
+
+  /**
+   * Checks whether this violation is present in the given validation result.
+   *
+   * @param violations a validation result
+   * @return {@code true} if the bit of this violation is set
+   */
+  public boolean isSet(int violations) {
+    return (violations & mask()) != 0;
+  }
+
+  /**
+   * Converts a validation result into a set of violations.
+   *
+   * @param violations a validation result
+   * @return a new set with the violations present in the result
+   */
+  public static Set<ConstraintViolation> of(int violations) {
+    Set<ConstraintViolation> set = EnumSet.noneOf(ConstraintViolation.class);
+    for (ConstraintViolation violation : values()) {
+      if (violation.isSet(violations)) {
+        set.add(violation);
+      }
+    }
+    return set;
+  }
+}
@@ -28,9 +28,17 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Period;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.TreeSet;
 
 
@@ -41,8 +49,12 @@ import java.util.TreeSet;
  * <h5>Characteristics:</h5>
  * <ul>
  * <li>Date range: Intervals span from (inclusive) start to (exclusive) end dates.</li>
- * <li>Days: Only includes specified days of the week.</li>
- * <li>Time range: Each interval spans from (inclusive) start to (exclusive) end times.</li>
+ * <li>Days: Only includes specified days of the week, every week or once every few weeks,
+ * or the dates matched by a monthly {@link RecurrenceRule}.</li>
+ * <li>Exclusions: Skips specific dates, such as holidays.</li>
+ * <li>Time range: Each interval spans from (inclusive) start to (exclusive) end times.
+ * A day may define several non-overlapping time windows, each one generating its own interval,
+ * and each day of the week may define different windows.</li>
  * </ul>
  *
  * <h5>Features:</h5>
@@ -64,9 +76,13 @@ public class DateTimeRange implements Serializable {
 
   private final LocalDate startDate;
   private final LocalDate endDate;
-  private final TreeSet<DayOfWeek> weekDays = new TreeSet<>();
-  private LocalTime startTime = defaultStartTime;
-  private LocalTime endTime = defaultEndTime;
+  private RecurrenceRule rule;
+  // Bit n is set if startDate.plusDays(n) is excluded
+  private final BitSet excludedDays = new BitSet();
+  // Indexed by DayOfWeek.ordinal(): sorted pairs of inclusive start and exclusive end nano-of-day
+  // of each daily window. Arrays are never modified, so days with the same windows share them
+  private final long[][] windows = uniformWindows(
+      new long[] {defaultStartTime.toNanoOfDay(), defaultEndTime.toNanoOfDay()});
 
   /**
    * Creates a new {@code DateTimeRange} with the specified start and end dates, and included days of the week.
@@ -125,6 +141,21 @@ public class DateTimeRange implements Serializable {
     this(startDate, endDate, startTime, endTime, Set.of(defaultWeekDays));
   }
 
+  /**
+   * Creates a copy of the given {@code DateTimeRange}, with the same dates, recurrence rule, daily windows
+   * and excluded dates. Later changes to either range do not affect the other.
+   *
+   * @param other the range to copy
+   */
+  public DateTimeRange(DateTimeRange other) {
+    this.startDate = other.startDate;
+    this.endDate = other.endDate;
+    this.rule = other.rule;
+    this.excludedDays.or(other.excludedDays);
+    // Window arrays are never modified, so they can be shared
+    System.arraycopy(other.windows, 0, windows, 0, windows.length);
+  }
+
   /**
    * Sets time boundaries for the intervals.
    *
@@ -132,24 +163,187 @@ public class DateTimeRange implements Serializable {
    * @param endTime   the ending point (exclusive)
    */
   public void setDayDuration(LocalTime startTime, LocalTime endTime) {
-    if (!startTime.isBefore(endTime)) {
-      throw new IllegalArgumentException("startTime must be before endTime");
+    setDailyWindows(startTime, endTime);
+  }
+
+  /**
+   * Sets several time windows for each day. Each window generates its own interval.
+   *
+   * @param bounds pairs of inclusive start and exclusive end times, in chronological order
+   * <br>e.g. {@code 09:00, 12:00, 14:00, 18:00} for a split shift
+   * @throws IllegalArgumentException if no window is given, if a start time is not before its end time,
+   * or if windows overlap or are not sorted
+   */
+  public void setDailyWindows(LocalTime... bounds) {
+    Arrays.fill(windows, toWindows(bounds));
+  }
+
+  /**
+   * Sets the time windows of a specific day of the week, replacing the windows shared with other days.
+   * Windows only apply when the day is included.
+   *
+   * @param day the day of the week
+   * @param bounds pairs of inclusive start and exclusive end times, in chronological order
+   * @throws IllegalArgumentException if no window is given, if a start time is not before its end time,
+   * or if windows overlap or are not sorted
+   * @see #setWeekDays(Set)
+   */
+  public void setDailyWindows(DayOfWeek day, LocalTime... bounds) {
+    windows[day.ordinal()] = toWindows(bounds);
+  }
+
+  private static long[][] uniformWindows(long[] bounds) {
+    long[][] windows = new long[7][];
+    Arrays.fill(windows, bounds);
+    return windows;
+  }
+
+  private static long[] toWindows(LocalTime... bounds) {
+    if (bounds.length == 0 || bounds.length % 2 != 0) {
+      throw new IllegalArgumentException("bounds must contain pairs of startTime and endTime");
     }
-    this.startTime = startTime;
-    this.endTime = endTime;
+    long[] windows = new long[bounds.length];
+    for (int i = 0; i < bounds.length; i += 2) {
+      if (!bounds[i].isBefore(bounds[i + 1])) {
+        throw new IllegalArgumentException("startTime must be before endTime");
+      }
+      if (i > 0 && bounds[i].isBefore(bounds[i - 1])) {
+        throw new IllegalArgumentException("Windows must be sorted and must not overlap");
+      }
+      windows[i] = bounds[i].toNanoOfDay();
+      windows[i + 1] = bounds[i + 1].toNanoOfDay();
+    }
+    return windows;
+  }
+
+  /**
+   * Returns the time windows of the first included day of the week.
+   *
+   * @return an immutable list of pairs of inclusive start and exclusive end times, in chronological order
+   * @see #getDailyWindows(DayOfWeek)
+   */
+  public List<LocalTime> getDailyWindows() {
+    return getDailyWindows(getFirstWeekDay());
+  }
+
+  /**
+   * Returns the time windows of the given day of the week.
+   *
+   * @param day the day of the week
+   * @return an immutable list of pairs of inclusive start and exclusive end times, in chronological order
+   */
+  public List<LocalTime> getDailyWindows(DayOfWeek day) {
+    long[] windows = windowsOf(day);
+    LocalTime[] bounds = new LocalTime[windows.length];
+    for (int i = 0; i < windows.length; i++) {
+      bounds[i] = LocalTime.ofNanoOfDay(windows[i]);
+    }
+    return List.of(bounds);
   }
 
   /**
-   * Defines on which days of the week intervals are defined.
+   * Defines on which days of the week intervals are defined, keeping the current week interval.
+   * This replaces any monthly {@link RecurrenceRule} with a {@link WeeklyRecurrence}.
    *
    * @param weekDays a list of days
    */
   public void setWeekDays(Set<DayOfWeek> weekDays) {
-    if(weekDays == null || weekDays.isEmpty()) {
-      throw new IllegalArgumentException("weekDays can't be null or empty");
+    this.rule = new WeeklyRecurrence(weekDays, getWeekInterval());
+  }
+
+  /**
+   * Defines on which dates intervals are defined.
+   *
+   * @param rule the recurrence rule, evaluated from the start date
+   * @throws IllegalArgumentException if {@code rule} is null
+   */
+  public void setRecurrenceRule(RecurrenceRule rule) {
+    if (rule == null) {
+      throw new IllegalArgumentException("rule can't be null");
     }
-    this.weekDays.clear();
-    this.weekDays.addAll(weekDays);
+    this.rule = rule;
+  }
+
+  /**
+   * Returns the rule that defines on which dates intervals are defined.
+   *
+   * @return the {@link RecurrenceRule}, a {@link WeeklyRecurrence} unless another rule was set
+   */
+  public RecurrenceRule getRecurrenceRule() {
+    return rule;
+  }
+
+  // Bitmask of the included days, where bit n stands for DayOfWeek.of(n + 1)
+  int getWeekDayMask() {
+    int mask = 0;
+    for (DayOfWeek day : rule.getWeekDays()) {
+      mask |= 1 << day.ordinal();
+    }
+    return mask;
+  }
+
+  /**
+   * Sets how often the included days of the week repeat. Weeks start on Monday and are counted from the week
+   * that contains the start date, which is always active.
+   *
+   * @param weeks the number of weeks between active weeks, e.g. {@code 2} for every other week
+   * @throws IllegalArgumentException if {@code weeks} is less than 1
+   * @throws IllegalStateException if the recurrence rule is not a {@link WeeklyRecurrence}
+   */
+  public void setWeekInterval(int weeks) {
+    if (!(rule instanceof WeeklyRecurrence)) {
+      throw new IllegalStateException("week interval only applies to weekly rules");
+    }
+    this.rule = new WeeklyRecurrence(rule.getWeekDays(), weeks);
+  }
+
+  /**
+   * Returns how often the included days of the week repeat.
+   *
+   * @return the number of weeks between active weeks, {@code 1} if every week is active
+   * or the recurrence rule is not weekly
+   */
+  public int getWeekInterval() {
+    return rule instanceof WeeklyRecurrence weekly ? weekly.getInterval() : 1;
+  }
+
+  /**
+   * Defines dates on which no interval is generated, even if they fall on an included day of the week.
+   * Dates outside of the range have no effect.
+   *
+   * @param dates the dates to exclude, replacing any previously excluded dates
+   */
+  public void setExcludedDates(Collection<LocalDate> dates) {
+    excludedDays.clear();
+    for (LocalDate date : dates) {
+      if (insideRange(date)) {
+        excludedDays.set(Math.toIntExact(DAYS.between(startDate, date)));
+      }
+    }
+  }
+
+  /**
+   * Returns the dates on which no interval is generated.
+   *
+   * @return an immutable set of {@link LocalDate}, in chronological order
+   */
+  public SortedSet<LocalDate> getExcludedDates() {
+    TreeSet<LocalDate> dates = new TreeSet<>();
+    for (int i = excludedDays.nextSetBit(0); i >= 0; i = excludedDays.nextSetBit(i + 1)) {
+      dates.add(startDate.plusDays(i));
+    }
+    return Collections.unmodifiableSortedSet(dates);
+  }
+
+  /**
+   * Checks whether the given date has been excluded.
+   *
+   * @param date the date to check
+   * @return {@code true} if the date is inside the range and excluded, {@code false} otherwise
+   * @see #setExcludedDates(Collection)
+   */
+  public boolean isExcluded(LocalDate date) {
+    return insideRange(date) && excludedDays.get((int) DAYS.between(startDate, date));
   }
 
   /**
@@ -161,12 +355,13 @@ public class DateTimeRange implements Serializable {
   }
 
   /**
-   * Returns the days of the week on which intervals are defined.
+   * Returns the days of the week on which intervals may be defined.
    *
    * @return an immutable set of {@link DayOfWeek}
+   * @see RecurrenceRule#getWeekDays()
    */
   public Set<DayOfWeek> getWeekDays() {
-    return Set.copyOf(weekDays);
+    return rule.getWeekDays();
   }
 
 /**
@@ -177,7 +372,49 @@ public class DateTimeRange implements Serializable {
  * @return a list of {@link TimeInterval} objects, sorted by their time range
  */
   public List<TimeInterval> getIntervals() {
-    return generateIntervals(this.startDate.atTime(this.startTime), endDate);
+    return generateIntervals(this.startDate.atStartOfDay(), endDate);
+  }
+
+  /**
+   * Gets the number of intervals in this range, without generating them.
+   *
+   * @return the total number of {@link TimeInterval} instances returned by {@link #getIntervals()}
+   */
+  public long getIntervalCount() {
+    return countIntervals(startDate, endDate);
+  }
+
+  /**
+   * Gets the interval at the given position, without generating the preceding ones.
+   *
+   * @param index the zero-based position of the interval, in chronological order
+   * @return the {@link TimeInterval} at the given position
+   * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@link #getIntervalCount()}
+   */
+  public TimeInterval getInterval(long index) {
+    TimeInterval interval = locate(index);
+    if (interval == null) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Count: " + getIntervalCount());
+    }
+    return interval;
+  }
+
+  /**
+   * Gets a page of intervals, generating only the requested ones.
+   *
+   * @param offset the zero-based position of the first interval to return
+   * @param limit the maximum number of intervals to return
+   * @return a list of at most {@code limit} {@link TimeInterval} objects, sorted by their time range
+   */
+  public List<TimeInterval> getIntervals(long offset, int limit) {
+    TimeInterval first = limit > 0 ? locate(offset) : null;
+    if (first == null) {
+      return new ArrayList<>();
+    }
+    TimeInterval last = locate(Math.min(offset + limit, getIntervalCount()) - 1);
+    List<TimeInterval> intervals =
+        generateIntervals(first.getStartDate(), last.getStartDate().toLocalDate().plusDays(1));
+    return new ArrayList<>(intervals.subList(0, Math.min(intervals.size(), limit)));
   }
 
 /**
@@ -186,7 +423,7 @@ public class DateTimeRange implements Serializable {
  * @return {@code true} if the argument is within an interval, {@code false} otherwise
  */
   public boolean includes(LocalDate date) {
-    return weekDays.contains(date.getDayOfWeek()) && insideRange(date);
+    return isIncludedDay(date) && insideRange(date) && !isExcluded(date);
   }
 
   /**
@@ -195,27 +432,53 @@ public class DateTimeRange implements Serializable {
    * @return {@code true} if the argument is within an interval, {@code false} otherwise
    */
   public boolean includes(LocalDateTime dateTime) {
+    IntervalQueryEvent event = new IntervalQueryEvent();
+    event.begin();
     boolean contains = false;
     LocalDate date = dateTime.toLocalDate();
     if (this.includes(date)) {
-      TimeInterval interval = new TimeInterval(
-          date.atTime(startTime),
-          date.atTime(endTime)
-      );
-      contains = interval.includes(dateTime);
+      long[] windows = windowsOf(date.getDayOfWeek());
+      long time = dateTime.toLocalTime().toNanoOfDay();
+      int window = findWindow(windows, time);
+      contains = window < windows.length / 2 && windows[2 * window] <= time;
     }
 
+    if (event.shouldCommit()) {
+      event.query = "includes";
+      event.argument = dateTime.toString();
+      event.found = contains;
+      event.commit();
+    }
     return contains;
   }
 
+  /**
+   * Gets the days of the given month that fall within any interval, as a bitset.
+   * Only the days of that month are evaluated, regardless of the span of this range.
+   *
+   * @param month the month to evaluate
+   * @return an {@code int} where bit {@code n} is set if day {@code n + 1} of the month is included
+   */
+  public int getMonthCoverage(YearMonth month) {
+    int coverage = 0;
+    LocalDate first = month.atDay(1);
+    if (first.isBefore(endDate) && !month.atEndOfMonth().isBefore(startDate)) {
+      for (int day = 0; day < month.lengthOfMonth(); day++) {
+        if (includes(first.plusDays(day))) {
+          coverage |= 1 << day;
+        }
+      }
+    }
+    return coverage;
+  }
+
   /**
    * Gets the next interval that ends after the given {@link LocalDate}.
    *
    * @return the next {@link TimeInterval} after the given date, or {@code null} if no such interval exists
    */
   public TimeInterval getNextInterval(LocalDate from) {
-    LocalDateTime dateTime = LocalDateTime.of(from, this.startTime);
-    return this.getNextInterval(dateTime);
+    return this.getNextInterval(from.atStartOfDay());
   }
 
   /**
@@ -233,19 +496,28 @@ public class DateTimeRange implements Serializable {
    * @return the next {@link TimeInterval} after the given date, or {@code null} if no such interval exists
    */
   public TimeInterval getNextInterval(LocalDateTime from) {
-    LocalDate date = from.toLocalDate();
+    IntervalQueryEvent event = new IntervalQueryEvent();
+    event.begin();
+    LocalDateTime first = clampToStartDate(from);
+    LocalDate date = first.toLocalDate();
     TimeInterval interval = null;
 
-    long offset = getStartOffset(from);
-    date = date.plusDays(offset);
+    long offset = getStartOffset(first);
+    date = skipExcluded(date.plusDays(offset));
 
     if (insideRange(date)) {
-      interval = new TimeInterval(
-          LocalDateTime.of(date, this.startTime),
-          LocalDateTime.of(date, this.endTime)
-      );
+      // Only the first day may have windows that already ended
+      int window = date.equals(first.toLocalDate())
+          ? findWindow(windowsOf(date.getDayOfWeek()), first.toLocalTime().toNanoOfDay()) : 0;
+      interval = getWindow(date, window);
     }
 
+    if (event.shouldCommit()) {
+      event.query = "getNextInterval";
+      event.argument = from.toString();
+      event.found = interval != null;
+      event.commit();
+    }
     return interval;
   }
 
@@ -276,6 +548,43 @@ public class DateTimeRange implements Serializable {
     return this.getIntervalsLeft(from.atTime(LocalTime.MIN));
   }
 
+  /**
+   * Lazily generates the intervals that end after given {@link LocalDateTime}.
+   * Each interval is created only when requested from the iterator.
+   *
+   * @param from the date-time after which intervals must end
+   * @return an iterator over the remaining {@link TimeInterval} objects, sorted by their time range
+   */
+  public Iterator<TimeInterval> iterator(LocalDateTime from) {
+    TimeInterval first = getNextInterval(from);
+    return new Iterator<>() {
+      private LocalDate next = first != null ? first.getStartDate().toLocalDate() : null;
+      private int window = first != null ? findWindow(windowsOf(next.getDayOfWeek()),
+          first.getStartDate().toLocalTime().toNanoOfDay()) : 0;
+
+      @Override
+      public boolean hasNext() {
+        return next != null;
+      }
+
+      @Override
+      public TimeInterval next() {
+        if (next == null) {
+          throw new NoSuchElementException();
+        }
+        TimeInterval interval = getWindow(next, window);
+        if (++window == getWindowCount(next.getDayOfWeek())) {
+          window = 0;
+          next = skipExcluded(getNextDate(next));
+          if (!insideRange(next)) {
+            next = null;
+          }
+        }
+        return interval;
+      }
+    };
+  }
+
   /**
    * Gets the intervals that ended before the current date and time.
    *
@@ -300,20 +609,44 @@ public class DateTimeRange implements Serializable {
    * @return a list of {@link TimeInterval} objects representing the past intervals
    */
   public List<TimeInterval> getPastIntervals(LocalDateTime from) {
-    LocalTime endTime = from.toLocalTime();
-    LocalDate endDate = from.toLocalDate();
-
-    return generateIntervals(startDate.atTime(startTime), !endTime.isBefore(this.endTime) ? endDate.plusDays(1) : endDate);
+    LocalDate date = from.toLocalDate();
+    List<TimeInterval> intervals = generateIntervals(startDate.atStartOfDay(), date);
+    if (includes(date)) {
+      // Windows of the last day that already ended
+      long[] windows = windowsOf(date.getDayOfWeek());
+      long time = from.toLocalTime().toNanoOfDay();
+      for (int window = 0; window < windows.length / 2 && windows[2 * window + 1] <= time; window++) {
+        intervals.add(getWindow(date, window));
+      }
+    }
+    return intervals;
   }
 
   /**
-   * Gets the time duration (or time period) of an interval.
-   * The duration is calculated as the difference between the start and (exclusive) end times.
+   * Gets the time duration (or time period) of the intervals of the first included day of the week.
+   * The duration is calculated as the sum of the differences between the start and (exclusive) end times
+   * of each daily window.
    *
-   * @return a {@link Duration} representing the length of an interval
+   * @return a {@link Duration} representing the length of the intervals of a day
+   * @see #getDayDuration(DayOfWeek)
    */
   public Duration getDayDuration() {
-    return Duration.between(startTime, endTime);
+    return getDayDuration(getFirstWeekDay());
+  }
+
+  /**
+   * Gets the time duration (or time period) of the intervals of the given day of the week.
+   *
+   * @param day the day of the week
+   * @return a {@link Duration} representing the length of the intervals of that day
+   */
+  public Duration getDayDuration(DayOfWeek day) {
+    long[] windows = windowsOf(day);
+    long nanos = 0;
+    for (int i = 0; i < windows.length; i += 2) {
+      nanos += windows[i + 1] - windows[i];
+    }
+    return Duration.ofNanos(nanos);
   }
 
   /**
@@ -339,34 +672,99 @@ public class DateTimeRange implements Serializable {
 
   /**
    * Gets the {@link LocalTime} when intervals start.
+   * If there are several daily windows, this is the earliest start among the included days.
    */
   public LocalTime getStartTime() {
-    return this.startTime;
+    long start = Long.MAX_VALUE;
+    for (DayOfWeek day : rule.getWeekDays()) {
+      start = Math.min(start, windowsOf(day)[0]);
+    }
+    return LocalTime.ofNanoOfDay(start);
   }
 
   /**
    * Gets the {@link LocalTime} when intervals end (exclusive).
+   * If there are several daily windows, this is the latest end among the included days.
    */
   public LocalTime getEndTime() {
-    return this.endTime;
+    long end = Long.MIN_VALUE;
+    for (DayOfWeek day : rule.getWeekDays()) {
+      long[] windows = windowsOf(day);
+      end = Math.max(end, windows[windows.length - 1]);
+    }
+    return LocalTime.ofNanoOfDay(end);
   }
 
   // Utils
-  private DayOfWeek getNextDay(DayOfWeek previous) {
-    DayOfWeek current = previous.plus(1);
-    while(!weekDays.contains(current)) {
-      current = current.plus(1);
+  private long[] windowsOf(DayOfWeek day) {
+    return windows[day.ordinal()];
+  }
+
+  private int getWindowCount(DayOfWeek day) {
+    return windows[day.ordinal()].length / 2;
+  }
+
+  private TimeInterval getWindow(LocalDate date, int window) {
+    long[] windows = windowsOf(date.getDayOfWeek());
+    return new TimeInterval(
+        date.atTime(LocalTime.ofNanoOfDay(windows[2 * window])),
+        date.atTime(LocalTime.ofNanoOfDay(windows[2 * window + 1]))
+    );
+  }
+
+  // Binary search for the first window that ends after the given nano-of-day, or the window count if none does
+  private static int findWindow(long[] windows, long time) {
+    int low = 0;
+    int high = windows.length / 2;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (windows[2 * mid + 1] > time) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
     }
-    return current;
+    return low;
+  }
+
+  private DayOfWeek getFirstWeekDay() {
+    return Collections.min(rule.getWeekDays());
+  }
+
+  // Check if date is an occurrence of the recurrence rule
+  private boolean isIncludedDay(LocalDate date) {
+    return rule.matches(startDate, date);
+  }
+
+  // Get the first included day on or after the given date
+  private LocalDate getFirstDate(LocalDate date) {
+    return rule.next(startDate, date);
+  }
+
+  private LocalDate getNextDate(LocalDate date) {
+    return getFirstDate(date.plusDays(1));
   }
 
-  // If <from> is after <to>, add a week (7) offset
-  private int daysBetween(DayOfWeek from, DayOfWeek to) {
-    int offset = to.getValue() - from.getValue();
-    if (offset <= 0) {
-      offset = 7 + offset;
+  // Move forward from an included day to the first one that is not excluded
+  private LocalDate skipExcluded(LocalDate date) {
+    while (isExcluded(date)) {
+      date = getNextDate(date);
+    }
+    return date;
+  }
+
+  // Count intervals of excluded days that fall on an included day of the week, between from and to (exclusive)
+  private long countExcluded(LocalDate from, LocalDate to) {
+    int first = (int) Math.max(0, DAYS.between(startDate, from));
+    long last = DAYS.between(startDate, to);
+    long count = 0;
+    for (int i = excludedDays.nextSetBit(first); i >= 0 && i < last; i = excludedDays.nextSetBit(i + 1)) {
+      LocalDate date = startDate.plusDays(i);
+      if (isIncludedDay(date)) {
+        count += getWindowCount(date.getDayOfWeek());
+      }
     }
-    return offset;
+    return count;
   }
 
   // Check if date is between start and end (exclusive)
@@ -376,27 +774,96 @@ public class DateTimeRange implements Serializable {
 
   // <to> is exclusive
   private List<TimeInterval> generateIntervals(LocalDateTime from, LocalDate to) {
+    IntervalsGenerationEvent event = new IntervalsGenerationEvent();
+    event.begin();
     List<TimeInterval> entities = new ArrayList<>();
-    LocalDate startDate = from.toLocalDate();
+    LocalDateTime first = clampToStartDate(from);
+    LocalDate startDate = first.toLocalDate();
 
     long totalDays = getTotalDays(startDate, to);
-    long startOffset = getStartOffset(from);
+    long startOffset = getStartOffset(first);
+    // Only the first day may have windows that already ended
+    int window = startOffset == 0
+        ? findWindow(windowsOf(startDate.getDayOfWeek()), first.toLocalTime().toNanoOfDay()) : 0;
 
     while (startOffset < totalDays) {
       LocalDate current = startDate.plusDays(startOffset);
-      LocalDateTime start = LocalDateTime.of(current, this.startTime);
-      LocalDateTime end = LocalDateTime.of(current, this.endTime);
-      TimeInterval timeInterval = new TimeInterval(start, end);
-      entities.add(timeInterval);
-
-      DayOfWeek lastDay = current.getDayOfWeek();
-      DayOfWeek nextDay = getNextDay(lastDay);
-      startOffset += daysBetween(lastDay, nextDay);
+      if (!isExcluded(current)) {
+        for (int count = getWindowCount(current.getDayOfWeek()); window < count; window++) {
+          entities.add(getWindow(current, window));
+        }
+      }
+      window = 0;
+      startOffset += DAYS.between(current, getNextDate(current));
     }
 
+    if (event.shouldCommit()) {
+      event.from = startDate.toString();
+      event.to = to.toString();
+      event.spanDays = totalDays;
+      event.intervals = entities.size();
+      event.commit();
+    }
     return entities;
   }
 
+  // Count intervals between from and to (exclusive), counting the occurrences of the rule on each day of the week
+  private long countIntervals(LocalDate from, LocalDate to) {
+    if (!from.isBefore(to)) {
+      return 0;
+    }
+    Set<DayOfWeek> days = rule.getWeekDays();
+    long[] uniform = windowsOf(getFirstWeekDay());
+    long count = 0;
+    if (days.stream().allMatch(day -> windowsOf(day).length == uniform.length)) {
+      count = rule.count(startDate, from, to) * (uniform.length / 2);
+    } else {
+      for (DayOfWeek day : days) {
+        count += rule.count(startDate, from, to, day) * getWindowCount(day);
+      }
+    }
+    return count - countExcluded(from, to);
+  }
+
+  // Count the included days that fall on the given day of the week, between from and to (exclusive)
+  long countDays(LocalDate from, LocalDate to, DayOfWeek day) {
+    LocalDate first = from.isBefore(startDate) ? startDate : from;
+    LocalDate last = to.isAfter(endDate) ? endDate : to;
+    if (!first.isBefore(last)) {
+      return 0;
+    }
+    long count = rule.count(startDate, first, last, day);
+    int end = (int) DAYS.between(startDate, last);
+    for (int i = excludedDays.nextSetBit((int) DAYS.between(startDate, first)); i >= 0 && i < end;
+        i = excludedDays.nextSetBit(i + 1)) {
+      LocalDate date = startDate.plusDays(i);
+      if (date.getDayOfWeek() == day && isIncludedDay(date)) {
+        count--;
+      }
+    }
+    return count;
+  }
+
+  // Get the interval at the given position, or null if there is no such interval
+  private TimeInterval locate(long index) {
+    if (index < 0 || index >= getIntervalCount()) {
+      return null;
+    }
+    // Binary search for the first day whose intervals reach past the given position
+    long low = 0;
+    long high = DAYS.between(startDate, endDate) - 1;
+    while (low < high) {
+      long mid = (low + high) >>> 1;
+      if (countIntervals(startDate, startDate.plusDays(mid + 1)) > index) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    LocalDate date = startDate.plusDays(low);
+    return getWindow(date, (int) (index - countIntervals(startDate, date)));
+  }
+
   // Get days constrained within dates range
   private long getTotalDays(LocalDate startDate, LocalDate endDate) {
     LocalDate start = startDate.isBefore(this.startDate) ? this.startDate : startDate;
@@ -405,12 +872,17 @@ public class DateTimeRange implements Serializable {
   }
 
   // From startDate, get days till next interval
+  // Intervals can't start before the start date, whichever week days precede it
+  private LocalDateTime clampToStartDate(LocalDateTime from) {
+    return from.toLocalDate().isBefore(startDate) ? startDate.atStartOfDay() : from;
+  }
+
   private long getStartOffset(LocalDateTime startDate) {
-    DayOfWeek firstDay = startDate.getDayOfWeek();
+    LocalDate firstDay = startDate.toLocalDate();
     // Check if it should start the next day
-    if (!weekDays.contains(firstDay) || !this.endTime.isAfter(startDate.toLocalTime())) {
-      DayOfWeek nextDay = getNextDay(startDate.getDayOfWeek());
-      return daysBetween(firstDay, nextDay);
+    long[] windows = windowsOf(firstDay.getDayOfWeek());
+    if (!isIncludedDay(firstDay) || windows[windows.length - 1] <= startDate.toLocalTime().toNanoOfDay()) {
+      return DAYS.between(firstDay, getNextDate(firstDay));
     }
     else return 0;
   }
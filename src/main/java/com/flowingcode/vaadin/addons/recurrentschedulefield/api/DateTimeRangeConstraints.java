@@ -0,0 +1,312 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import static com.flowingcode.vaadin.addons.recurrentschedulefield.api.ConstraintViolation.*;
+import static java.time.temporal.ChronoUnit.DAYS;
+
+import java.io.Serializable;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable set of constraints that a schedule must satisfy, independent of any UI component.
+ *
+ * <h5>Characteristics:</h5>
+ * <ul>
+ * <li>Dates: minimum start date, maximum end date and maximum span in days.</li>
+ * <li>Days: days of the week that may be selected.</li>
+ * <li>Times: minimum start time and maximum end time.</li>
+ * </ul>
+ *
+ * <p>
+ * Instances are thread-safe. The same rules back the validation of {@code RecurrentScheduleField},
+ * so checking a batch of schedules with {@link #validateAll(List, int[])} gives the same results as
+ * entering each of them in the component.
+ * </p>
+ *
+ * @author Flowing Code
+ * @see ConstraintViolation
+ */
+public final class DateTimeRangeConstraints implements Serializable {
+
+  /** Constraints that only check the completeness and order of the values. */
+  public static final DateTimeRangeConstraints NONE = new DateTimeRangeConstraints();
+
+  /** Violations related to the start and end dates. */
+  public static final int DATES_VIOLATIONS = INCOMPLETE_DATES.mask() | INVALID_DATES_ORDER.mask()
+      | DATES_SPAN_EXCEEDED.mask() | DATES_OUT_OF_BOUNDS.mask();
+
+  /** Violations related to the days of the week. */
+  public static final int DAYS_VIOLATIONS = INCOMPLETE_DAYS.mask() | DAYS_NOT_ALLOWED.mask();
+
+  /** Violations related to the start and end times. */
+  public static final int TIMES_VIOLATIONS = INCOMPLETE_TIMES.mask() | INVALID_TIMES_ORDER.mask()
+      | TIMES_OUT_OF_BOUNDS.mask();
+
+  private static final int ALL_WEEK_DAYS = 0x7F;
+
+  private final LocalDate minDate;
+  private final LocalDate maxDate;
+  private final LocalTime minTime;
+  private final LocalTime maxTime;
+  private final int maxDaysSpan;
+  private final int allowedWeekDays;
+
+  private DateTimeRangeConstraints() {
+    this(null, null, null, null, 0, ALL_WEEK_DAYS);
+  }
+
+  private DateTimeRangeConstraints(LocalDate minDate, LocalDate maxDate, LocalTime minTime,
+      LocalTime maxTime, int maxDaysSpan, int allowedWeekDays) {
+    this.minDate = minDate;
+    this.maxDate = maxDate;
+    this.minTime = minTime;
+    this.maxTime = maxTime;
+    this.maxDaysSpan = maxDaysSpan;
+    this.allowedWeekDays = allowedWeekDays;
+  }
+
+  /**
+   * Returns a copy of these constraints with the given minimum start date.
+   *
+   * @param minDate the minimum start date, or {@code null} for no minimum
+   */
+  public DateTimeRangeConstraints withMinDate(LocalDate minDate) {
+    return new DateTimeRangeConstraints(minDate, maxDate, minTime, maxTime, maxDaysSpan, allowedWeekDays);
+  }
+
+  /**
+   * Returns a copy of these constraints with the given maximum end date.
+   *
+   * @param maxDate the maximum end date, or {@code null} for no maximum
+   */
+  public DateTimeRangeConstraints withMaxDate(LocalDate maxDate) {
+    return new DateTimeRangeConstraints(minDate, maxDate, minTime, maxTime, maxDaysSpan, allowedWeekDays);
+  }
+
+  /**
+   * Returns a copy of these constraints with the given minimum start time.
+   *
+   * @param minTime the minimum start time, or {@code null} for no minimum
+   */
+  public DateTimeRangeConstraints withMinTime(LocalTime minTime) {
+    return new DateTimeRangeConstraints(minDate, maxDate, minTime, maxTime, maxDaysSpan, allowedWeekDays);
+  }
+
+  /**
+   * Returns a copy of these constraints with the given maximum end time.
+   *
+   * @param maxTime the maximum end time, or {@code null} for no maximum
+   */
+  public DateTimeRangeConstraints withMaxTime(LocalTime maxTime) {
+    return new DateTimeRangeConstraints(minDate, maxDate, minTime, maxTime, maxDaysSpan, allowedWeekDays);
+  }
+
+  /**
+   * Returns a copy of these constraints with the given maximum distance between start and end dates.
+   *
+   * @param maxDaysSpan the maximum distance measured in days, or zero for no maximum
+   */
+  public DateTimeRangeConstraints withMaxDaysSpan(int maxDaysSpan) {
+    return new DateTimeRangeConstraints(minDate, maxDate, minTime, maxTime, Math.max(maxDaysSpan, 0), allowedWeekDays);
+  }
+
+  /**
+   * Returns a copy of these constraints allowing only the given days of the week.
+   *
+   * @param weekDays the days that may be selected, or {@code null} to allow all days
+   */
+  public DateTimeRangeConstraints withAllowedWeekDays(Set<DayOfWeek> weekDays) {
+    int allowed = weekDays != null ? maskOf(weekDays) : ALL_WEEK_DAYS;
+    return new DateTimeRangeConstraints(minDate, maxDate, minTime, maxTime, maxDaysSpan, allowed);
+  }
+
+  /**
+   * Gets the minimum start date, or {@code null} if there is no minimum.
+   */
+  public LocalDate getMinDate() {
+    return minDate;
+  }
+
+  /**
+   * Gets the maximum end date, or {@code null} if there is no maximum.
+   */
+  public LocalDate getMaxDate() {
+    return maxDate;
+  }
+
+  /**
+   * Gets the minimum start time, or {@code null} if there is no minimum.
+   */
+  public LocalTime getMinTime() {
+    return minTime;
+  }
+
+  /**
+   * Gets the maximum end time, or {@code null} if there is no maximum.
+   */
+  public LocalTime getMaxTime() {
+    return maxTime;
+  }
+
+  /**
+   * Gets the maximum distance in days between start and end dates, or zero if there is no maximum.
+   */
+  public int getMaxDaysSpan() {
+    return maxDaysSpan;
+  }
+
+  /**
+   * Gets the days of the week that may be selected.
+   *
+   * @return a new set of {@link DayOfWeek}
+   */
+  public Set<DayOfWeek> getAllowedWeekDays() {
+    Set<DayOfWeek> days = new TreeSet<>();
+    for (DayOfWeek day : DayOfWeek.values()) {
+      if ((allowedWeekDays & bit(day)) != 0) {
+        days.add(day);
+      }
+    }
+    return days;
+  }
+
+  /**
+   * Checks the given schedule values against these constraints. Any value may be {@code null}.
+   *
+   * @param startDate the inclusive start date
+   * @param endDate the exclusive end date
+   * @param startTime the inclusive start time
+   * @param endTime the exclusive end time
+   * @param weekDays the selected days of the week
+   * @return a bitmask of {@link ConstraintViolation}, or zero if the values are valid
+   */
+  public int validate(LocalDate startDate, LocalDate endDate, LocalTime startTime, LocalTime endTime,
+      Set<DayOfWeek> weekDays) {
+    return validateDates(startDate, endDate)
+        | validateDays(weekDays == null ? 0 : maskOf(weekDays))
+        | validateTimes(startTime, endTime);
+  }
+
+  /**
+   * Checks the given range against these constraints.
+   *
+   * @param range the range to check
+   * @return a bitmask of {@link ConstraintViolation}, or zero if the range is valid
+   */
+  public int validate(DateTimeRange range) {
+    return validateDates(range.getStartDate(), range.getEndDate())
+        | validateDays(maskOf(range.getRecurrenceRule().getWeekDays(range.getStartDate(),
+            range.getEndDate())))
+        | validateTimes(range.getStartTime(), range.getEndTime());
+  }
+
+  /**
+   * Checks a batch of ranges in parallel, writing the results into the given array.
+   *
+   * @param ranges the ranges to check
+   * @param results an array, at least as long as {@code ranges}, where the bitmask of
+   *        {@link ConstraintViolation} of each range is written at the same position
+   * @return the number of invalid ranges
+   */
+  public long validateAll(List<DateTimeRange> ranges, int[] results) {
+    // Indexed access to a copy, since get(i) may be linear, e.g. in a LinkedList
+    DateTimeRange[] array = ranges.toArray(DateTimeRange[]::new);
+    if (results.length < array.length) {
+      throw new IllegalArgumentException("results array is too small");
+    }
+    IntStream.range(0, array.length).parallel()
+        .forEach(i -> results[i] = validate(array[i]));
+    long invalid = 0;
+    for (int i = 0; i < array.length; i++) {
+      if (results[i] != 0) {
+        invalid++;
+      }
+    }
+    return invalid;
+  }
+
+  /**
+   * Checks a batch of ranges in parallel.
+   *
+   * @param ranges the ranges to check
+   * @return an array with the bitmask of {@link ConstraintViolation} of each range
+   */
+  public int[] validateAll(List<DateTimeRange> ranges) {
+    int[] results = new int[ranges.size()];
+    validateAll(ranges, results);
+    return results;
+  }
+
+  private int validateDates(LocalDate start, LocalDate end) {
+    if (start == null || end == null) {
+      return INCOMPLETE_DATES.mask();
+    }
+    if (!start.isBefore(end)) {
+      return INVALID_DATES_ORDER.mask();
+    }
+    int violations = 0;
+    if (maxDaysSpan > 0 && DAYS.between(start, end) > maxDaysSpan) {
+      violations |= DATES_SPAN_EXCEEDED.mask();
+    }
+    if ((minDate != null && start.isBefore(minDate)) || (maxDate != null && end.isAfter(maxDate))) {
+      violations |= DATES_OUT_OF_BOUNDS.mask();
+    }
+    return violations;
+  }
+
+  private int validateDays(int weekDays) {
+    if (weekDays == 0) {
+      return INCOMPLETE_DAYS.mask();
+    }
+    return (weekDays & ~allowedWeekDays) != 0 ? DAYS_NOT_ALLOWED.mask() : 0;
+  }
+
+  private int validateTimes(LocalTime start, LocalTime end) {
+    if (start == null || end == null) {
+      return INCOMPLETE_TIMES.mask();
+    }
+    if (!start.isBefore(end)) {
+      return INVALID_TIMES_ORDER.mask();
+    }
+    if ((minTime != null && start.isBefore(minTime)) || (maxTime != null && end.isAfter(maxTime))) {
+      return TIMES_OUT_OF_BOUNDS.mask();
+    }
+    return 0;
+  }
+
+  private static int bit(DayOfWeek day) {
+    return 1 << day.ordinal();
+  }
+
+  private static int maskOf(Set<DayOfWeek> weekDays) {
+    int mask = 0;
+    for (DayOfWeek day : weekDays) {
+      mask |= bit(day);
+    }
+    return mask;
+  }
+}
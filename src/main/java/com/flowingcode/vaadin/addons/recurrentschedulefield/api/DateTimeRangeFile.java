@@ -0,0 +1,276 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A file of weekly {@link DateTimeRange} objects, queried directly through a memory mapping.
+ *
+ * <p>
+ * Opening a file only maps it, so no range is decoded until it is requested with {@link #get(int)},
+ * and queries read the packed values in place. The file starts with a header holding a magic number,
+ * the format version and the number of ranges, followed by one fixed-size record per range with its
+ * packed dates and times (see {@link PackedDateTimeRange}) and the offset of its excluded dates, or
+ * {@code 0} if it has none. Excluded dates come last, as a word count followed by the words of a
+ * bitset where bit {@code n} stands for the start date plus {@code n} days. Values are big-endian.
+ * </p>
+ *
+ * <p>
+ * Files can hold any range that {@link PackedDateTimeRange} can pack, with or without excluded dates,
+ * up to 2 GiB.
+ * </p>
+ *
+ * @author Flowing Code
+ */
+public class DateTimeRangeFile {
+
+  private static final int MAGIC = 0x52534652;
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 12;
+  private static final int RECORD_SIZE = 24;
+
+  private final ByteBuffer buffer;
+  private final int size;
+
+  private DateTimeRangeFile(ByteBuffer buffer) throws IOException {
+    if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+      throw new IOException("Not a schedule file");
+    }
+    if (buffer.getInt(4) != VERSION) {
+      throw new IOException("Unsupported schedule file version " + buffer.getInt(4));
+    }
+    size = buffer.getInt(8);
+    if (size < 0 || HEADER_SIZE + (long) size * RECORD_SIZE > buffer.limit()) {
+      throw new IOException("Truncated schedule file");
+    }
+    // Check every exclusion block up front, so that queries never read out of the buffer
+    long recordsEnd = HEADER_SIZE + (long) size * RECORD_SIZE;
+    for (int i = 0; i < size; i++) {
+      long offset = buffer.getLong(HEADER_SIZE + i * RECORD_SIZE + 16);
+      if (offset == 0) {
+        continue;
+      }
+      if (offset < recordsEnd || offset > buffer.limit() - Integer.BYTES) {
+        throw new IOException("Invalid excluded dates offset " + offset + " in record " + i);
+      }
+      int words = buffer.getInt((int) offset);
+      if (words < 0 || offset + Integer.BYTES + (long) words * Long.BYTES > buffer.limit()) {
+        throw new IOException("Invalid excluded dates word count " + words + " in record " + i);
+      }
+    }
+    this.buffer = buffer;
+  }
+
+  /**
+   * Writes the given ranges to a file, replacing its contents.
+   *
+   * @param path the file to write
+   * @param ranges the ranges to write, in the order of their positions
+   * @throws IOException if the file can't be written
+   * @throws IllegalArgumentException if some range can't be packed, other than for its excluded dates,
+   * or if the file would exceed 2 GiB
+   */
+  public static void write(Path path, Collection<DateTimeRange> ranges) throws IOException {
+    List<DateTimeRange> list = List.copyOf(ranges);
+    long[][] exclusions = new long[list.size()][];
+    long fileSize = HEADER_SIZE + (long) list.size() * RECORD_SIZE;
+    for (int i = 0; i < exclusions.length; i++) {
+      DateTimeRange range = list.get(i);
+      if (!PackedDateTimeRange.isPackableSchedule(range)) {
+        throw new IllegalArgumentException("range can't be packed");
+      }
+      BitSet excluded = new BitSet();
+      for (LocalDate date : range.getExcludedDates()) {
+        excluded.set((int) DAYS.between(range.getStartDate(), date));
+      }
+      exclusions[i] = excluded.toLongArray();
+      if (exclusions[i].length > 0) {
+        fileSize += Integer.BYTES + (long) exclusions[i].length * Long.BYTES;
+      }
+    }
+    // Larger files can't be mapped, and their offsets wouldn't fit the int positions of a buffer
+    if (fileSize > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("ranges exceed the maximum file size of 2 GiB");
+    }
+
+    try (DataOutputStream out =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(list.size());
+      long offset = HEADER_SIZE + (long) list.size() * RECORD_SIZE;
+      for (int i = 0; i < exclusions.length; i++) {
+        out.writeLong(PackedDateTimeRange.encodeDates(list.get(i)));
+        out.writeLong(PackedDateTimeRange.encodeTimes(list.get(i)));
+        out.writeLong(exclusions[i].length > 0 ? offset : 0);
+        if (exclusions[i].length > 0) {
+          offset += Integer.BYTES + (long) exclusions[i].length * Long.BYTES;
+        }
+      }
+      for (long[] words : exclusions) {
+        if (words.length > 0) {
+          out.writeInt(words.length);
+          for (long word : words) {
+            out.writeLong(word);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Maps the given file for reading.
+   *
+   * @param path the file to map
+   * @return a {@code DateTimeRangeFile} that reads the mapped file
+   * @throws IOException if the file can't be read, or is not a schedule file of a supported version
+   */
+  public static DateTimeRangeFile open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      // The mapping stays valid after the channel is closed
+      MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+      return new DateTimeRangeFile(buffer);
+    }
+  }
+
+  /**
+   * Returns the number of ranges in the file.
+   */
+  public int size() {
+    return size;
+  }
+
+  private long dates(int index) {
+    return buffer.getLong(HEADER_SIZE + index * RECORD_SIZE);
+  }
+
+  private long times(int index) {
+    return buffer.getLong(HEADER_SIZE + index * RECORD_SIZE + 8);
+  }
+
+  private int exclusionsOffset(int index) {
+    return (int) buffer.getLong(HEADER_SIZE + index * RECORD_SIZE + 16);
+  }
+
+  // Check if the given epoch day has been excluded from the range at the given position
+  private boolean isExcluded(int index, long dates, long day) {
+    int offset = exclusionsOffset(index);
+    long bit = day - PackedDateTimeRange.startDay(dates);
+    if (offset == 0 || bit < 0 || bit >>> 6 >= buffer.getInt(offset)) {
+      return false;
+    }
+    return (buffer.getLong(offset + Integer.BYTES + (int) (bit >>> 6) * Long.BYTES) & 1L << bit) != 0;
+  }
+
+  /**
+   * Decodes the range at the given position.
+   *
+   * @param index the position of the range
+   * @return a new {@link DateTimeRange}
+   * @throws IndexOutOfBoundsException if there is no range at the given position
+   */
+  public DateTimeRange get(int index) {
+    Objects.checkIndex(index, size);
+    DateTimeRange range = PackedDateTimeRange.unpack(dates(index), times(index));
+    int offset = exclusionsOffset(index);
+    if (offset != 0) {
+      long[] words = new long[buffer.getInt(offset)];
+      for (int i = 0; i < words.length; i++) {
+        words[i] = buffer.getLong(offset + Integer.BYTES + i * Long.BYTES);
+      }
+      range.setExcludedDates(BitSet.valueOf(words).stream()
+          .mapToObj(range.getStartDate()::plusDays)
+          .toList());
+    }
+    return range;
+  }
+
+  /**
+   * Checks if the given date-time falls within an interval of the range at the given position.
+   *
+   * @param index the position of the range
+   * @param dateTime the date-time to check
+   * @return {@code true} if the argument is within an interval, {@code false} otherwise
+   * @throws IndexOutOfBoundsException if there is no range at the given position
+   */
+  public boolean includes(int index, LocalDateTime dateTime) {
+    Objects.checkIndex(index, size);
+    long dates = dates(index);
+    return PackedDateTimeRange.includes(dates, times(index), dateTime)
+        && !isExcluded(index, dates, dateTime.toLocalDate().toEpochDay());
+  }
+
+  /**
+   * Gets the next interval of the range at the given position that ends after the given date-time.
+   *
+   * @param index the position of the range
+   * @param from the date-time after which the interval must end
+   * @return the next {@link TimeInterval}, or {@code null} if no such interval exists
+   * @throws IndexOutOfBoundsException if there is no range at the given position
+   */
+  public TimeInterval getNextInterval(int index, LocalDateTime from) {
+    Objects.checkIndex(index, size);
+    long dates = dates(index);
+    long times = times(index);
+    TimeInterval interval = PackedDateTimeRange.getNextInterval(dates, times, from);
+    while (interval != null
+        && isExcluded(index, dates, interval.getStartDate().toLocalDate().toEpochDay())) {
+      LocalDate next = interval.getStartDate().toLocalDate().plusDays(1);
+      interval = PackedDateTimeRange.getNextInterval(dates, times, next.atStartOfDay());
+    }
+    return interval;
+  }
+
+  /**
+   * Finds the ranges that include the given date-time.
+   *
+   * @param dateTime the date-time to check
+   * @return a {@link BitSet} where bit {@code n} is set if the range at position {@code n} includes the argument
+   */
+  public BitSet findIncluding(LocalDateTime dateTime) {
+    long day = dateTime.toLocalDate().toEpochDay();
+    BitSet found = new BitSet();
+    for (int i = 0; i < size; i++) {
+      long dates = dates(i);
+      if (PackedDateTimeRange.includes(dates, times(i), dateTime) && !isExcluded(i, dates, day)) {
+        found.set(i);
+      }
+    }
+    return found;
+  }
+}
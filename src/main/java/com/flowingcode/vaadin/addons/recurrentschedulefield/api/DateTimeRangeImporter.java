@@ -0,0 +1,431 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk importer that parses schedule catalogs into {@link DateTimeRange} instances.
+ *
+ * <p>
+ * Each line holds one schedule with the format
+ * {@code startDate,endDate,startTime,endTime,weekDays}, where:
+ * </p>
+ * <ul>
+ * <li>Dates use the ISO format {@code yyyy-MM-dd}. The end date is exclusive.</li>
+ * <li>Times use {@code HH:mm} or {@code HH:mm:ss}. The end time is exclusive, and {@code 24:00}
+ * stands for the end of the day.</li>
+ * <li>Week days are a list of two-letter codes ({@code MO}, {@code TU}, ...), as in iCalendar's
+ * {@code BYDAY}, separated by commas, semicolons or spaces. A weekly iCalendar rule such as
+ * {@code FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE,FR} is also accepted, where {@code INTERVAL} sets the
+ * number of weeks between active weeks (see {@link WeeklyRecurrence}).</li>
+ * </ul>
+ * <p>
+ * Blank lines and lines whose first non-blank character is {@code #} are ignored. Lines that can't be parsed are
+ * reported as {@link ImportError} instances and don't stop the import.
+ * </p>
+ *
+ * <p>
+ * Files are memory-mapped and split into chunks at line boundaries. Chunks are parsed in parallel
+ * straight from their bytes, so throughput scales with the available cores.
+ * </p>
+ *
+ * @author Flowing Code
+ */
+public final class DateTimeRangeImporter {
+
+  // Upper bound of the bytes parsed by a single task
+  private static final int MAX_CHUNK_SIZE = 16 * 1024 * 1024;
+  private static final int MIN_CHUNK_SIZE = 64 * 1024;
+
+  private static final String[] DAY_CODES = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+
+  private DateTimeRangeImporter() {}
+
+  /**
+   * Imports all the schedules in the given file.
+   *
+   * @param path the file to read, encoded as UTF-8 or ASCII
+   * @return the imported ranges along with the lines that couldn't be parsed
+   * @throws IOException if the file can't be read
+   */
+  public static Result importFile(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      List<MappedByteBuffer> chunks = split(channel);
+      return merge(chunks.parallelStream().map(DateTimeRangeImporter::parse).collect(Collectors.toList()));
+    }
+  }
+
+  /**
+   * Imports all the schedules in the given buffer, from its position to its limit.
+   *
+   * @param buffer the bytes to parse, encoded as UTF-8 or ASCII
+   * @return the imported ranges along with the lines that couldn't be parsed
+   */
+  public static Result importBytes(ByteBuffer buffer) {
+    List<ByteBuffer> chunks = new ArrayList<>();
+    int size = chunkSize(buffer.remaining());
+    int start = buffer.position();
+    while (start < buffer.limit()) {
+      int end = nextLineStart(buffer, Math.min(start + size, buffer.limit()));
+      chunks.add(buffer.duplicate().position(start).limit(end).slice());
+      start = end;
+    }
+    return merge(chunks.parallelStream().map(DateTimeRangeImporter::parse).collect(Collectors.toList()));
+  }
+
+  // Maps the file in chunks that end at line boundaries
+  private static List<MappedByteBuffer> split(FileChannel channel) throws IOException {
+    List<MappedByteBuffer> chunks = new ArrayList<>();
+    long fileSize = channel.size();
+    int size = chunkSize(fileSize);
+    ByteBuffer probe = ByteBuffer.allocate(256);
+    long start = 0;
+    while (start < fileSize) {
+      long end = Math.min(start + size, fileSize);
+      // Move the end past the next line break
+      while (end < fileSize) {
+        probe.clear();
+        int read = channel.read(probe, end);
+        int i = 0;
+        while (i < read && probe.get(i) != '\n') {
+          i++;
+        }
+        end += i;
+        if (i < read) {
+          end++;
+          break;
+        }
+      }
+      chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start));
+      start = end;
+    }
+    return chunks;
+  }
+
+  private static int chunkSize(long totalSize) {
+    long perTask = totalSize / (Runtime.getRuntime().availableProcessors() * 4L);
+    return (int) Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, perTask));
+  }
+
+  private static int nextLineStart(ByteBuffer buffer, int from) {
+    int i = from;
+    while (i < buffer.limit() && buffer.get(i) != '\n') {
+      i++;
+    }
+    return Math.min(i + 1, buffer.limit());
+  }
+
+  // Concatenates the chunk results, turning chunk-relative line numbers into absolute ones
+  private static Result merge(List<Chunk> chunks) {
+    List<DateTimeRange> ranges = new ArrayList<>();
+    List<ImportError> errors = new ArrayList<>();
+    long lines = 0;
+    for (Chunk chunk : chunks) {
+      ranges.addAll(chunk.ranges);
+      for (ImportError error : chunk.errors) {
+        errors.add(new ImportError(lines + error.line, error.message));
+      }
+      lines += chunk.lines;
+    }
+    return new Result(ranges, errors, lines);
+  }
+
+  private static Chunk parse(ByteBuffer buffer) {
+    Chunk chunk = new Chunk();
+    int limit = buffer.limit();
+    int start = 0;
+    while (start < limit) {
+      int end = start;
+      while (end < limit && buffer.get(end) != '\n') {
+        end++;
+      }
+      chunk.lines++;
+      int lineEnd = end > start && buffer.get(end - 1) == '\r' ? end - 1 : end;
+      int first = skipBlanks(buffer, start, lineEnd);
+      if (first < lineEnd && buffer.get(first) != '#') {
+        try {
+          chunk.ranges.add(parseLine(buffer, start, lineEnd));
+        } catch (IllegalArgumentException | DateTimeException e) {
+          chunk.errors.add(new ImportError(chunk.lines, e.getMessage()));
+        }
+      }
+      start = end + 1;
+    }
+    return chunk;
+  }
+
+  // Position of the first byte between start and end that is not ASCII whitespace, or end if there is none
+  private static int skipBlanks(ByteBuffer buffer, int start, int end) {
+    int i = start;
+    while (i < end && buffer.get(i) >= 0 && Character.isWhitespace(buffer.get(i))) {
+      i++;
+    }
+    return i;
+  }
+
+  private static DateTimeRange parseLine(ByteBuffer buffer, int start, int end) {
+    int[] fields = new int[4];
+    int pos = start;
+    for (int i = 0; i < fields.length; i++) {
+      while (pos < end && buffer.get(pos) != ',') {
+        pos++;
+      }
+      if (pos == end) {
+        throw new IllegalArgumentException("Expected 5 fields: " + text(buffer, start, end));
+      }
+      fields[i] = pos++;
+    }
+
+    LocalDate startDate = parseDate(buffer, start, fields[0]);
+    LocalDate endDate = parseDate(buffer, fields[0] + 1, fields[1]);
+    LocalTime startTime = parseTime(buffer, fields[1] + 1, fields[2]);
+    LocalTime endTime = parseTime(buffer, fields[2] + 1, fields[3]);
+    WeeklyRecurrence rule = parseRule(buffer, fields[3] + 1, end);
+    DateTimeRange range =
+        new DateTimeRange(startDate, endDate, startTime, endTime, rule.getWeekDays());
+    range.setRecurrenceRule(rule);
+    return range;
+  }
+
+  // yyyy-MM-dd
+  private static LocalDate parseDate(ByteBuffer buffer, int start, int end) {
+    start = skipSpaces(buffer, start, end);
+    end = trimSpaces(buffer, start, end);
+    if (end - start != 10 || buffer.get(start + 4) != '-' || buffer.get(start + 7) != '-') {
+      throw new IllegalArgumentException("Invalid date: " + text(buffer, start, end));
+    }
+    return LocalDate.of(
+        digits(buffer, start, 4),
+        digits(buffer, start + 5, 2),
+        digits(buffer, start + 8, 2));
+  }
+
+  // HH:mm or HH:mm:ss, where 24:00 is the end of the day
+  private static LocalTime parseTime(ByteBuffer buffer, int start, int end) {
+    start = skipSpaces(buffer, start, end);
+    end = trimSpaces(buffer, start, end);
+    int length = end - start;
+    if ((length != 5 && length != 8) || buffer.get(start + 2) != ':'
+        || (length == 8 && buffer.get(start + 5) != ':')) {
+      throw new IllegalArgumentException("Invalid time: " + text(buffer, start, end));
+    }
+    int hour = digits(buffer, start, 2);
+    int minute = digits(buffer, start + 3, 2);
+    int second = length == 8 ? digits(buffer, start + 6, 2) : 0;
+    if (hour == 24 && minute == 0 && second == 0) {
+      return LocalTime.MAX;
+    }
+    return LocalTime.of(hour, minute, second);
+  }
+
+  // Week days, optionally within a weekly iCalendar rule with an interval
+  private static WeeklyRecurrence parseRule(ByteBuffer buffer, int start, int end) {
+    Set<DayOfWeek> weekDays = EnumSet.noneOf(DayOfWeek.class);
+    int interval = 1;
+    int pos = start;
+    while (pos < end) {
+      byte b = buffer.get(pos);
+      if (b == ',' || b == ';' || b == ' ' || b == '\t') {
+        pos++;
+      } else if (b == 'F' && startsWith(buffer, pos, end, "FREQ=WEEKLY")) {
+        pos += "FREQ=WEEKLY".length();
+      } else if (b == 'B' && startsWith(buffer, pos, end, "BYDAY=")) {
+        pos += "BYDAY=".length();
+      } else if (b == 'I' && startsWith(buffer, pos, end, "INTERVAL=")) {
+        pos += "INTERVAL=".length();
+        int digits = pos;
+        while (digits < end && Character.isDigit(buffer.get(digits))) {
+          digits++;
+        }
+        // Nine digits always fit an int
+        if (digits == pos || digits - pos > 9
+            || digits < end && Character.isLetter(buffer.get(digits))) {
+          while (digits < end && buffer.get(digits) != ',' && buffer.get(digits) != ';') {
+            digits++;
+          }
+          throw new IllegalArgumentException("Invalid interval: " + text(buffer, pos, digits));
+        }
+        interval = digits(buffer, pos, digits - pos);
+        pos = digits;
+      } else {
+        weekDays.add(parseDay(buffer, pos, end));
+        pos += 2;
+      }
+    }
+    if (weekDays.isEmpty()) {
+      throw new IllegalArgumentException("Missing week days");
+    }
+    return new WeeklyRecurrence(weekDays, interval);
+  }
+
+  private static DayOfWeek parseDay(ByteBuffer buffer, int pos, int end) {
+    if (pos + 2 <= end) {
+      for (int i = 0; i < DAY_CODES.length; i++) {
+        if (startsWith(buffer, pos, end, DAY_CODES[i])
+            && (pos + 2 == end || !Character.isLetter(buffer.get(pos + 2)))) {
+          return DayOfWeek.of(i + 1);
+        }
+      }
+    }
+    int next = pos;
+    while (next < end && buffer.get(next) != ',' && buffer.get(next) != ';') {
+      next++;
+    }
+    throw new IllegalArgumentException("Invalid week day: " + text(buffer, pos, next));
+  }
+
+  private static int digits(ByteBuffer buffer, int start, int count) {
+    int value = 0;
+    for (int i = start; i < start + count; i++) {
+      int digit = buffer.get(i) - '0';
+      if (digit < 0 || digit > 9) {
+        throw new IllegalArgumentException("Invalid number: " + text(buffer, start, start + count));
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  private static boolean startsWith(ByteBuffer buffer, int pos, int end, String prefix) {
+    if (pos + prefix.length() > end) {
+      return false;
+    }
+    for (int i = 0; i < prefix.length(); i++) {
+      if (buffer.get(pos + i) != prefix.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int skipSpaces(ByteBuffer buffer, int start, int end) {
+    while (start < end && buffer.get(start) == ' ') {
+      start++;
+    }
+    return start;
+  }
+
+  private static int trimSpaces(ByteBuffer buffer, int start, int end) {
+    while (end > start && buffer.get(end - 1) == ' ') {
+      end--;
+    }
+    return end;
+  }
+
+  private static String text(ByteBuffer buffer, int start, int end) {
+    byte[] bytes = new byte[end - start];
+    buffer.get(start, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  // Parsing state of a single chunk
+  private static final class Chunk {
+    private final List<DateTimeRange> ranges = new ArrayList<>();
+    private final List<ImportError> errors = new ArrayList<>();
+    private long lines;
+  }
+
+  /**
+   * The outcome of an import.
+   */
+  public static final class Result {
+
+    private final List<DateTimeRange> ranges;
+    private final List<ImportError> errors;
+    private final long lineCount;
+
+    private Result(List<DateTimeRange> ranges, List<ImportError> errors, long lineCount) {
+      this.ranges = Collections.unmodifiableList(ranges);
+      this.errors = Collections.unmodifiableList(errors);
+      this.lineCount = lineCount;
+    }
+
+    /**
+     * Gets the imported ranges, in the same order as in the input.
+     */
+    public List<DateTimeRange> getRanges() {
+      return ranges;
+    }
+
+    /**
+     * Gets the lines that couldn't be parsed, in the same order as in the input.
+     */
+    public List<ImportError> getErrors() {
+      return errors;
+    }
+
+    /**
+     * Gets the number of lines read, including blank lines and comments.
+     */
+    public long getLineCount() {
+      return lineCount;
+    }
+  }
+
+  /**
+   * A line that couldn't be imported.
+   */
+  public static final class ImportError {
+
+    private final long line;
+    private final String message;
+
+    private ImportError(long line, String message) {
+      this.line = line;
+      this.message = message;
+    }
+
+    /**
+     * Gets the one-based number of the line.
+     */
+    public long getLine() {
+      return line;
+    }
+
+    /**
+     * Gets a description of the problem.
+     */
+    public String getMessage() {
+      return message;
+    }
+
+    @Override
+    public String toString() {
+      return "line " + line + ": " + message;
+    }
+  }
+}
@@ -0,0 +1,238 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * A compact store of many weekly {@link DateTimeRange} objects, kept packed in two {@code long[]}
+ * columns, i.e. 16 bytes per range.
+ *
+ * <p>
+ * Ranges are identified by the position at which they were added. Queries are evaluated directly on
+ * the packed values, so no {@code DateTimeRange} is created unless it is requested with
+ * {@link #get(int)}.
+ * </p>
+ *
+ * @author Flowing Code
+ * @see PackedDateTimeRange
+ */
+public class DateTimeRangeStore {
+
+  /**
+   * System property that disables the Vector API evaluator of {@link #findIncluding(LocalDateTime)}
+   * when set to {@code false}.
+   */
+  public static final String VECTOR_SCAN_PROPERTY = "com.flowingcode.recurrentschedulefield.vectorScan";
+
+  private static final IncludingScan SCALAR_SCAN = (dates, times, size, day, dayBit, minute, endMinute,
+      words) -> scan(dates, times, 0, size, day, dayBit, minute, endMinute, words);
+  private static final IncludingScan SCAN = loadScan();
+
+  private long[] dates;
+  private long[] times;
+  private int size;
+
+  /**
+   * Creates an empty store.
+   */
+  public DateTimeRangeStore() {
+    this(16);
+  }
+
+  /**
+   * Creates an empty store with room for the given number of ranges.
+   *
+   * @param capacity the initial capacity
+   */
+  public DateTimeRangeStore(int capacity) {
+    dates = new long[capacity];
+    times = new long[capacity];
+  }
+
+  /**
+   * Adds a range to the store.
+   *
+   * @param range the range to add
+   * @return the position of the range
+   * @throws IllegalArgumentException if the range can't be packed
+   * @see PackedDateTimeRange#isPackable(DateTimeRange)
+   */
+  public int add(DateTimeRange range) {
+    long packedDates = PackedDateTimeRange.packDates(range);
+    long packedTimes = PackedDateTimeRange.packTimes(range);
+    if (size == dates.length) {
+      int capacity = Math.max(16, size + (size >> 1));
+      dates = Arrays.copyOf(dates, capacity);
+      times = Arrays.copyOf(times, capacity);
+    }
+    dates[size] = packedDates;
+    times[size] = packedTimes;
+    return size++;
+  }
+
+  /**
+   * Replaces the range at the given position.
+   *
+   * @param index the position of the range
+   * @param range the new range
+   * @throws IndexOutOfBoundsException if there is no range at the given position
+   * @throws IllegalArgumentException if the range can't be packed
+   */
+  public void set(int index, DateTimeRange range) {
+    Objects.checkIndex(index, size);
+    dates[index] = PackedDateTimeRange.packDates(range);
+    times[index] = PackedDateTimeRange.packTimes(range);
+  }
+
+  /**
+   * Gets a copy of the range at the given position.
+   *
+   * @param index the position of the range
+   * @return a new {@link DateTimeRange}
+   * @throws IndexOutOfBoundsException if there is no range at the given position
+   */
+  public DateTimeRange get(int index) {
+    Objects.checkIndex(index, size);
+    return PackedDateTimeRange.unpack(dates[index], times[index]);
+  }
+
+  /**
+   * Returns the number of ranges in the store.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks if the given date-time falls within an interval of the range at the given position.
+   *
+   * @param index the position of the range
+   * @param dateTime the date-time to check
+   * @return {@code true} if the argument is within an interval, {@code false} otherwise
+   * @throws IndexOutOfBoundsException if there is no range at the given position
+   */
+  public boolean includes(int index, LocalDateTime dateTime) {
+    Objects.checkIndex(index, size);
+    return PackedDateTimeRange.includes(dates[index], times[index], dateTime);
+  }
+
+  /**
+   * Gets the next interval of the range at the given position that ends after the given date-time.
+   *
+   * @param index the position of the range
+   * @param from the date-time after which the interval must end
+   * @return the next {@link TimeInterval}, or {@code null} if no such interval exists
+   * @throws IndexOutOfBoundsException if there is no range at the given position
+   */
+  public TimeInterval getNextInterval(int index, LocalDateTime from) {
+    Objects.checkIndex(index, size);
+    return PackedDateTimeRange.getNextInterval(dates[index], times[index], from);
+  }
+
+  // The Vector API evaluator is only compiled with the "vector" profile, and can only be loaded if
+  // the jdk.incubator.vector module has been added at runtime
+  private static IncludingScan loadScan() {
+    if (Boolean.parseBoolean(System.getProperty(VECTOR_SCAN_PROPERTY, "true"))
+        && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+      try {
+        return (IncludingScan) Class.forName(DateTimeRangeStore.class.getPackageName() + ".VectorIncludingScan")
+            .getDeclaredConstructor().newInstance();
+      } catch (ReflectiveOperationException | LinkageError e) {
+        // Not compiled in
+      }
+    }
+    return SCALAR_SCAN;
+  }
+
+  /**
+   * Checks whether {@link #findIncluding(LocalDateTime)} uses the Vector API.
+   *
+   * @return {@code true} if the Vector API evaluator is in use, {@code false} if the scalar one is
+   */
+  public static boolean isVectorScan() {
+    return SCAN != SCALAR_SCAN;
+  }
+
+  /**
+   * Finds the ranges that include the given date-time, scanning the packed columns.
+   *
+   * <p>
+   * The date span, day of the week and minute of the day of every range are tested without branches,
+   * 64 ranges per word of the result. If the add-on was built with the {@code vector} profile and the
+   * {@code jdk.incubator.vector} module is added at runtime, these tests are evaluated with the Vector
+   * API, several ranges at a time; otherwise, a scalar loop is used. Only the ranges that pass and
+   * repeat every few weeks take a second check.
+   * </p>
+   *
+   * @param dateTime the date-time to check
+   * @return a {@link BitSet} where bit {@code n} is set if the range at position {@code n} includes the argument
+   */
+  public BitSet findIncluding(LocalDateTime dateTime) {
+    long epochDay = dateTime.toLocalDate().toEpochDay();
+    if (epochDay != (int) epochDay) {
+      // Packed dates are always within the int range
+      return new BitSet();
+    }
+    int day = (int) epochDay;
+    int dayBit = 1 << dateTime.getDayOfWeek().ordinal();
+    long time = dateTime.toLocalTime().toNanoOfDay();
+    // Start and end minutes are on minute boundaries, so comparing minutes is enough,
+    // except for LocalTime.MAX itself, which is never before an end
+    int minute = dateTime.getHour() * 60 + dateTime.getMinute();
+    int endMinute = time == LocalTime.MAX.toNanoOfDay() ? PackedDateTimeRange.MINUTES_PER_DAY : minute;
+
+    long[] words = new long[(size + 63) >>> 6];
+    boolean repeating = SCAN.scan(dates, times, size, day, dayBit, minute, endMinute, words);
+
+    BitSet found = BitSet.valueOf(words);
+    if (repeating) {
+      for (int i = found.nextSetBit(0); i >= 0; i = found.nextSetBit(i + 1)) {
+        if (!PackedDateTimeRange.isIncludedDay(dates[i], times[i], day)) {
+          found.clear(i);
+        }
+      }
+    }
+    return found;
+  }
+
+  // Scalar first pass of findIncluding over the ranges from (inclusive) to (exclusive), which is also
+  // the tail of the Vector API evaluator
+  static boolean scan(long[] dates, long[] times, int from, int to, int day, int dayBit, int minute,
+      int endMinute, long[] words) {
+    boolean repeating = false;
+    for (int i = from; i < to; i++) {
+      long packedDates = dates[i];
+      long packedTimes = times[i];
+      boolean hit = PackedDateTimeRange.startDay(packedDates) <= day
+          & day < PackedDateTimeRange.endDay(packedDates)
+          & (PackedDateTimeRange.mask(packedTimes) & dayBit) != 0
+          & PackedDateTimeRange.startMinute(packedTimes) <= minute
+          & endMinute < PackedDateTimeRange.endMinute(packedTimes);
+      words[i >>> 6] |= (hit ? 1L : 0L) << i;
+      repeating |= hit & PackedDateTimeRange.weekInterval(packedTimes) != 1;
+    }
+    return repeating;
+  }
+}
@@ -0,0 +1,161 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * Finds the free time between the intervals of several busy {@link DateTimeRange} objects.
+ *
+ * <p>
+ * The busy intervals are swept in order through an {@link AvailabilityTimeline}, so ranges are
+ * never expanded in full. Between two consecutive start, end or excluded dates of the ranges, the busy
+ * intervals repeat every week, or every few weeks if some range has a week interval. Once a whole
+ * period of such a stretch has been swept without finding a free slot, the sweep jumps to the last
+ * period before the stretch ends.
+ * </p>
+ *
+ * @author Flowing Code
+ */
+public class FreeSlotFinder {
+
+  // Longer periods are never swept in full anyway, and would overflow date arithmetic
+  private static final long MAX_PERIOD_WEEKS = 1_000_000;
+
+  private final List<DateTimeRange> busy;
+  private final TreeSet<LocalDateTime> changes = new TreeSet<>();
+  private final Duration period;
+
+  /**
+   * Creates a new finder for the given busy ranges.
+   *
+   * @param busy the ranges during which there is no free time
+   */
+  public FreeSlotFinder(Collection<DateTimeRange> busy) {
+    this.busy = List.copyOf(busy);
+    // The busy intervals repeat after the least common multiple of the week intervals,
+    // while monthly rules have no weekly period at all
+    long weeks = 1;
+    for (DateTimeRange range : this.busy) {
+      long interval = range.getRecurrenceRule() instanceof WeeklyRecurrence
+          ? range.getWeekInterval() : MAX_PERIOD_WEEKS;
+      weeks = Math.min(MAX_PERIOD_WEEKS, weeks / gcd(weeks, interval) * interval);
+      changes.add(range.getStartDate().atStartOfDay());
+      changes.add(range.getEndDate().atStartOfDay());
+      // Excluded dates break the weekly pattern
+      for (LocalDate date : range.getExcludedDates()) {
+        changes.add(date.atStartOfDay());
+        changes.add(date.plusDays(1).atStartOfDay());
+      }
+    }
+    period = Duration.ofDays(7 * weeks);
+  }
+
+  private static long gcd(long a, long b) {
+    return b == 0 ? a : gcd(b, a % b);
+  }
+
+  /**
+   * Gets the first free slot of at least the given length.
+   *
+   * @param from the inclusive lower bound of the search
+   * @param to the exclusive upper bound of the search
+   * @param length the minimum length of the slot
+   * @return the first free {@link TimeInterval}, or {@code null} if no such slot exists
+   */
+  public TimeInterval findFirst(LocalDateTime from, LocalDateTime to, Duration length) {
+    List<TimeInterval> slots = find(from, to, length, 1);
+    return slots.isEmpty() ? null : slots.get(0);
+  }
+
+  /**
+   * Gets the first free slots of at least the given length. Each slot is a maximal stretch of free
+   * time, clipped to the bounds of the search.
+   *
+   * @param from the inclusive lower bound of the search
+   * @param to the exclusive upper bound of the search
+   * @param length the minimum length of each slot
+   * @param limit the maximum number of slots to return
+   * @return a list of disjoint {@link TimeInterval} objects, sorted by their start
+   * @throws IllegalArgumentException if {@code length} is not positive
+   */
+  public List<TimeInterval> find(LocalDateTime from, LocalDateTime to, Duration length, int limit) {
+    Objects.requireNonNull(from);
+    Objects.requireNonNull(to);
+    if (length.isNegative() || length.isZero()) {
+      throw new IllegalArgumentException("length must be positive");
+    }
+    List<TimeInterval> slots = new ArrayList<>();
+    LocalDateTime cursor = from;
+    Iterator<TimeInterval> intervals = new AvailabilityTimeline(busy, cursor).iterator();
+
+    // Start of the current periodic stretch of the sweep, and the next date where it may change
+    LocalDateTime scanStart = cursor;
+    LocalDateTime stretchEnd = changes.higher(scanStart);
+    boolean found = false;
+
+    while (slots.size() < limit && cursor.isBefore(to)) {
+      TimeInterval next = intervals.hasNext() ? intervals.next() : null;
+      LocalDateTime gapEnd = next == null || next.getStartDate().isAfter(to) ? to : next.getStartDate();
+      if (cursor.isBefore(gapEnd) && Duration.between(cursor, gapEnd).compareTo(length) >= 0) {
+        slots.add(new TimeInterval(cursor, gapEnd));
+        found = true;
+      }
+      if (next == null || !next.getStartDate().isBefore(to)) {
+        break;
+      }
+      LocalDateTime end = endOf(next);
+      if (end.isAfter(cursor)) {
+        cursor = end;
+      }
+
+      while (stretchEnd != null && !cursor.isBefore(stretchEnd)) {
+        scanStart = stretchEnd;
+        stretchEnd = changes.higher(scanStart);
+        found = false;
+      }
+      // A period (plus the slot length, to cover slots across the period boundary) swept in vain
+      if (!found && stretchEnd != null
+          && !cursor.isBefore(scanStart.plus(period).plus(length))) {
+        LocalDateTime jump = stretchEnd.minus(period).minus(length);
+        if (jump.isAfter(cursor)) {
+          cursor = jump;
+          intervals = new AvailabilityTimeline(busy, cursor).iterator();
+        }
+      }
+    }
+    return slots;
+  }
+
+  // An interval that ends at LocalTime.MAX lasts until midnight
+  private static LocalDateTime endOf(TimeInterval interval) {
+    LocalDateTime end = interval.getEndDate();
+    return end.toLocalTime().equals(LocalTime.MAX) ? end.plusNanos(1) : end;
+  }
+}
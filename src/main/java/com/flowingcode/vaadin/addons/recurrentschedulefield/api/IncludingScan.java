@@ -0,0 +1,45 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+/**
+ * First pass of {@link DateTimeRangeStore#findIncluding(java.time.LocalDateTime)}: tests the date
+ * span, day of the week and minute of the day of the packed ranges, ignoring their week interval.
+ *
+ * @author Flowing Code
+ */
+interface IncludingScan {
+
+  /**
+   * Sets bit {@code n} of {@code words} for each range {@code n} that passes the tests.
+   *
+   * @param dates the packed dates of the ranges
+   * @param times the packed times of the ranges
+   * @param size the number of ranges
+   * @param day the epoch day to check
+   * @param dayBit the bit of the day of the week in the packed day masks
+   * @param minute the minute of the day that must not be before the start minute
+   * @param endMinute the minute of the day that must be before the end minute
+   * @param words the result, with room for {@code size} bits
+   * @return {@code true} if some of the ranges that passed repeats every few weeks
+   */
+  boolean scan(long[] dates, long[] times, int size, int day, int dayBit, int minute, int endMinute,
+      long[] words);
+}
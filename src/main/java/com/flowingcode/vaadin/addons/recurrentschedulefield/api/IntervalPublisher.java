@@ -0,0 +1,225 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Flow.Publisher} of the upcoming {@link TimeInterval} instances of one or more
+ * {@link DateTimeRange} objects.
+ *
+ * <p>
+ * Intervals are generated lazily, only as subscribers request them, and are never buffered: a slow
+ * subscriber simply delays generation. Each subscriber receives the whole sequence from the
+ * beginning. Intervals of merged ranges are emitted sorted by their start.
+ * </p>
+ *
+ * <p>
+ * By default intervals are emitted as soon as they are requested. A publisher created with
+ * {@link #inRealTime(Clock, ScheduledExecutorService)} emits each interval when it starts instead.
+ * </p>
+ *
+ * @author Flowing Code
+ */
+public class IntervalPublisher implements Flow.Publisher<TimeInterval> {
+
+  private final Supplier<Iterator<TimeInterval>> source;
+  private final Clock clock;
+  private final ScheduledExecutorService scheduler;
+
+  private IntervalPublisher(Supplier<Iterator<TimeInterval>> source, Clock clock,
+      ScheduledExecutorService scheduler) {
+    this.source = source;
+    this.clock = clock;
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Creates a publisher of the intervals of the given range that end after the given date-time.
+   *
+   * @param range the range that generates the intervals
+   * @param from the date-time after which intervals must end
+   * @return a new publisher
+   */
+  public static IntervalPublisher of(DateTimeRange range, LocalDateTime from) {
+    return new IntervalPublisher(() -> range.iterator(from), null, null);
+  }
+
+  /**
+   * Creates a publisher of the intervals of all the given ranges that end after the given date-time,
+   * merged by their start.
+   *
+   * @param ranges the ranges that generate the intervals
+   * @param from the date-time after which intervals must end
+   * @return a new publisher
+   */
+  public static IntervalPublisher merge(Collection<DateTimeRange> ranges, LocalDateTime from) {
+    List<DateTimeRange> copy = List.copyOf(ranges);
+    return new IntervalPublisher(() -> {
+      List<Iterator<TimeInterval>> iterators = new ArrayList<>(copy.size());
+      for (DateTimeRange range : copy) {
+        iterators.add(range.iterator(from));
+      }
+      return new MergingIterator(iterators);
+    }, null, null);
+  }
+
+  /**
+   * Returns a publisher that emits each interval when it starts, according to the given clock.
+   * Requested intervals that have already started are emitted immediately.
+   *
+   * @param clock the clock that provides the current date-time
+   * @param scheduler the executor that waits for intervals to start
+   * @return a new publisher of the same intervals
+   */
+  public IntervalPublisher inRealTime(Clock clock, ScheduledExecutorService scheduler) {
+    return new IntervalPublisher(source, Objects.requireNonNull(clock), Objects.requireNonNull(scheduler));
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super TimeInterval> subscriber) {
+    Objects.requireNonNull(subscriber);
+    IntervalSubscription subscription = new IntervalSubscription(subscriber);
+    subscriber.onSubscribe(subscription);
+    subscription.start();
+  }
+
+  private final class IntervalSubscription implements Flow.Subscription {
+
+    private final Flow.Subscriber<? super TimeInterval> subscriber;
+    private final AtomicLong demand = new AtomicLong();
+    // Serializes the emission loop: only the thread that raises it from zero emits
+    private final AtomicInteger work = new AtomicInteger();
+    private Iterator<TimeInterval> iterator;
+    private TimeInterval pending;
+    // Set outside the emission loop and signalled from within it
+    private volatile Throwable error;
+    private volatile boolean done;
+    private volatile boolean waiting;
+
+    private IntervalSubscription(Flow.Subscriber<? super TimeInterval> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    private void start() {
+      drain();
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        if (error == null) {
+          error = new IllegalArgumentException("Non-positive request: " + n);
+        }
+        drain();
+        return;
+      }
+      demand.accumulateAndGet(n, (current, added) -> {
+        long sum = current + added;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+      });
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      done = true;
+    }
+
+    private void drain() {
+      if (work.getAndIncrement() != 0) {
+        return;
+      }
+      int missed = 1;
+      do {
+        try {
+          emit();
+        } catch (RuntimeException e) {
+          fail(e);
+        }
+        missed = work.addAndGet(-missed);
+      } while (missed != 0);
+    }
+
+    private void emit() {
+      if (error != null) {
+        fail(error);
+        return;
+      }
+      if (iterator == null && !done) {
+        iterator = source.get();
+      }
+      while (!done && error == null && demand.get() > 0) {
+        if (pending == null) {
+          if (!iterator.hasNext()) {
+            done = true;
+            subscriber.onComplete();
+            return;
+          }
+          pending = iterator.next();
+        }
+        if (clock != null) {
+          if (waiting) {
+            return;
+          }
+          Duration wait = Duration.between(LocalDateTime.now(clock), pending.getStartDate());
+          if (!wait.isNegative() && !wait.isZero()) {
+            waiting = true;
+            scheduler.schedule(() -> {
+              waiting = false;
+              drain();
+            }, wait.toMillis() + 1, TimeUnit.MILLISECONDS);
+            return;
+          }
+        }
+        TimeInterval next = pending;
+        pending = null;
+        demand.decrementAndGet();
+        try {
+          subscriber.onNext(next);
+        } catch (RuntimeException e) {
+          // A subscriber that fails is considered to have cancelled its subscription
+          cancel();
+          return;
+        }
+      }
+    }
+
+    private void fail(Throwable error) {
+      if (!done) {
+        done = true;
+        subscriber.onError(error);
+      }
+    }
+  }
+}
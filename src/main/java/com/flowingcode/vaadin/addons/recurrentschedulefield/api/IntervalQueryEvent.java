@@ -0,0 +1,59 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * JDK Flight Recorder event emitted by the point queries of a {@link DateTimeRange}, such as
+ * {@code includes} and {@code getNextInterval}.
+ *
+ * <p>
+ * These queries are usually called at a high rate, so the event is disabled by default and, once
+ * enabled, only calls longer than the threshold are recorded.
+ * </p>
+ */
+@Name(IntervalQueryEvent.NAME)
+@Label("Interval Query")
+@Category({"Flowing Code", "Recurrent Schedule Field"})
+@Description("Point query on a DateTimeRange")
+@Enabled(false)
+@Threshold("1 ms")
+final class IntervalQueryEvent extends jdk.jfr.Event {
+
+  static final String NAME = "com.flowingcode.recurrentschedulefield.IntervalQuery";
+
+  @Label("Query")
+  @Description("Name of the queried method")
+  String query;
+
+  @Label("Argument")
+  @Description("Date or date-time passed to the query")
+  String argument;
+
+  @Label("Found")
+  @Description("Whether the query found a matching interval")
+  boolean found;
+}
@@ -0,0 +1,56 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * JDK Flight Recorder event emitted when a {@link DateTimeRange} generates a list of
+ * {@link TimeInterval} instances.
+ */
+@Name(IntervalsGenerationEvent.NAME)
+@Label("Intervals Generation")
+@Category({"Flowing Code", "Recurrent Schedule Field"})
+@Description("Expansion of a DateTimeRange into a list of TimeInterval instances")
+@Threshold("10 ms")
+final class IntervalsGenerationEvent extends jdk.jfr.Event {
+
+  static final String NAME = "com.flowingcode.recurrentschedulefield.IntervalsGeneration";
+
+  @Label("From")
+  @Description("First date considered (inclusive)")
+  String from;
+
+  @Label("To")
+  @Description("Last date considered (exclusive)")
+  String to;
+
+  @Label("Span Days")
+  @Description("Number of days between the first and last dates")
+  long spanDays;
+
+  @Label("Intervals")
+  @Description("Number of intervals produced")
+  int intervals;
+}
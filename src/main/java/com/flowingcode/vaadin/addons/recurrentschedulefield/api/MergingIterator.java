@@ -0,0 +1,89 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Lazy k-way merge of sorted interval iterators, ordered by start and then by end.
+ * Keeps a single pending interval per source, so memory is proportional to the number of sources.
+ */
+final class MergingIterator implements Iterator<TimeInterval> {
+
+  private static final Comparator<Source> ORDER = Comparator
+      .comparing((Source source) -> source.head.getStartDate())
+      .thenComparing(source -> source.head.getEndDate());
+
+  private final PriorityQueue<Source> queue;
+
+  MergingIterator(Collection<? extends Iterator<TimeInterval>> iterators) {
+    queue = new PriorityQueue<>(Math.max(1, iterators.size()), ORDER);
+    for (Iterator<TimeInterval> iterator : iterators) {
+      if (iterator.hasNext()) {
+        queue.add(new Source(iterator));
+      }
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    return !queue.isEmpty();
+  }
+
+  /**
+   * Returns the interval that the next call to {@link #next()} would return, without consuming it.
+   */
+  TimeInterval peek() {
+    Source source = queue.peek();
+    if (source == null) {
+      throw new NoSuchElementException();
+    }
+    return source.head;
+  }
+
+  @Override
+  public TimeInterval next() {
+    Source source = queue.poll();
+    if (source == null) {
+      throw new NoSuchElementException();
+    }
+    TimeInterval head = source.head;
+    if (source.iterator.hasNext()) {
+      source.head = source.iterator.next();
+      queue.add(source);
+    }
+    return head;
+  }
+
+  private static final class Source {
+
+    private final Iterator<TimeInterval> iterator;
+    private TimeInterval head;
+
+    private Source(Iterator<TimeInterval> iterator) {
+      this.iterator = iterator;
+      this.head = iterator.next();
+    }
+  }
+}
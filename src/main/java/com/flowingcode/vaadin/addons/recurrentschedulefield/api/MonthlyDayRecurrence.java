@@ -0,0 +1,212 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A {@link RecurrenceRule} that occurs on a given day of every month, e.g. the 15th.
+ * Months that are too short for that day are skipped.
+ *
+ * @author Flowing Code
+ */
+public final class MonthlyDayRecurrence implements RecurrenceRule {
+
+  private static final Set<DayOfWeek> ALL_DAYS = Set.of(DayOfWeek.values());
+
+  // The Gregorian calendar repeats every 400 years, which are exactly 20871 weeks
+  private static final int CYCLE_YEARS = 400;
+
+  // For each day of the month, the occurrences on each day of the week in the first n years of a cycle
+  private static final AtomicReferenceArray<int[][]> CYCLE_COUNTS = new AtomicReferenceArray<>(32);
+
+  private final int dayOfMonth;
+
+  /**
+   * Creates a rule that occurs on the given day of every month.
+   *
+   * @param dayOfMonth the day of the month, from 1 to 31
+   * @throws IllegalArgumentException if {@code dayOfMonth} is out of range
+   */
+  public MonthlyDayRecurrence(int dayOfMonth) {
+    if (dayOfMonth < 1 || dayOfMonth > 31) {
+      throw new IllegalArgumentException("dayOfMonth must be between 1 and 31");
+    }
+    this.dayOfMonth = dayOfMonth;
+  }
+
+  /**
+   * Returns the day of the month on which this rule occurs.
+   */
+  public int getDayOfMonth() {
+    return dayOfMonth;
+  }
+
+  @Override
+  public Set<DayOfWeek> getWeekDays() {
+    return ALL_DAYS;
+  }
+
+  /**
+   * Returns the days of the week on which occurrences fall between the given dates, which may be
+   * fewer than seven for short ranges.
+   */
+  @Override
+  public Set<DayOfWeek> getWeekDays(LocalDate start, LocalDate to) {
+    Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+    // Stop as soon as every day of the week has been seen
+    for (LocalDate date = next(start, start); date.isBefore(to) && days.size() < 7;
+        date = next(start, date.plusDays(1))) {
+      days.add(date.getDayOfWeek());
+    }
+    return Set.copyOf(days);
+  }
+
+  @Override
+  public boolean matches(LocalDate start, LocalDate date) {
+    return date.getDayOfMonth() == dayOfMonth;
+  }
+
+  @Override
+  public LocalDate next(LocalDate start, LocalDate from) {
+    YearMonth month = YearMonth.from(from);
+    if (from.getDayOfMonth() > dayOfMonth) {
+      month = month.plusMonths(1);
+    }
+    while (!month.isValidDay(dayOfMonth)) {
+      month = month.plusMonths(1);
+    }
+    return month.atDay(dayOfMonth);
+  }
+
+  @Override
+  public long count(LocalDate start, LocalDate from, LocalDate to) {
+    if (!from.isBefore(to)) {
+      return 0;
+    }
+    return countMonths(firstMonth(from), firstMonth(to));
+  }
+
+  /**
+   * Counts the occurrences on the given day of the week through the 400-year cycle of the calendar,
+   * visiting at most the months of the first and last years.
+   */
+  @Override
+  public long count(LocalDate start, LocalDate from, LocalDate to, DayOfWeek day) {
+    if (!from.isBefore(to)) {
+      return 0;
+    }
+    int[][] cycleCounts = cycleCounts();
+    return countBefore(firstMonth(to), day, cycleCounts)
+        - countBefore(firstMonth(from), day, cycleCounts);
+  }
+
+  // The first month whose occurrence is not before the given date
+  private YearMonth firstMonth(LocalDate date) {
+    YearMonth month = YearMonth.from(date);
+    return date.getDayOfMonth() > dayOfMonth ? month.plusMonths(1) : month;
+  }
+
+  // Count the occurrences on the given day of the week in the months before the given one, since year 0
+  private long countBefore(YearMonth month, DayOfWeek day, int[][] cycleCounts) {
+    int year = month.getYear();
+    long count = Math.floorDiv(year, CYCLE_YEARS) * (long) cycleCounts[CYCLE_YEARS][day.ordinal()]
+        + cycleCounts[Math.floorMod(year, CYCLE_YEARS)][day.ordinal()];
+    for (YearMonth m = YearMonth.of(year, 1); m.isBefore(month); m = m.plusMonths(1)) {
+      if (m.isValidDay(dayOfMonth) && m.atDay(dayOfMonth).getDayOfWeek() == day) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  // Occurrences on each day of the week in the first n years of a cycle, computed once per day of the month
+  private int[][] cycleCounts() {
+    int[][] counts = CYCLE_COUNTS.get(dayOfMonth);
+    if (counts == null) {
+      counts = new int[CYCLE_YEARS + 1][];
+      counts[0] = new int[7];
+      for (int year = 0; year < CYCLE_YEARS; year++) {
+        counts[year + 1] = counts[year].clone();
+        for (int month = 1; month <= 12; month++) {
+          YearMonth m = YearMonth.of(year, month);
+          if (m.isValidDay(dayOfMonth)) {
+            counts[year + 1][m.atDay(dayOfMonth).getDayOfWeek().ordinal()]++;
+          }
+        }
+      }
+      // Concurrent callers compute the same table, and all of them use the first one stored
+      if (!CYCLE_COUNTS.compareAndSet(dayOfMonth, null, counts)) {
+        counts = CYCLE_COUNTS.get(dayOfMonth);
+      }
+    }
+    return counts;
+  }
+
+  // Count the months between first and last (exclusive) that have this day
+  private long countMonths(YearMonth first, YearMonth last) {
+    if (!first.isBefore(last)) {
+      return 0;
+    }
+    if (dayOfMonth <= 28) {
+      return ChronoUnit.MONTHS.between(first, last);
+    }
+    long count = 0;
+    // Partial years at both ends, month by month
+    while (first.isBefore(last) && first.getMonthValue() != 1) {
+      count += first.isValidDay(dayOfMonth) ? 1 : 0;
+      first = first.plusMonths(1);
+    }
+    while (first.isBefore(last) && last.getMonthValue() != 1) {
+      last = last.minusMonths(1);
+      count += last.isValidDay(dayOfMonth) ? 1 : 0;
+    }
+    // Whole years: every month but February has 29 and 30 days, and seven months have 31 days
+    long years = last.getYear() - first.getYear();
+    if (years > 0) {
+      count += years * (dayOfMonth == 31 ? 7 : 11);
+      if (dayOfMonth == 29) {
+        count += leapYears(last.getYear() - 1) - leapYears(first.getYear() - 1);
+      }
+    }
+    return count;
+  }
+
+  // Number of leap years from year 0 to the given one
+  private static long leapYears(long year) {
+    return Math.floorDiv(year, 4) - Math.floorDiv(year, 100) + Math.floorDiv(year, 400);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof MonthlyDayRecurrence that && dayOfMonth == that.dayOfMonth;
+  }
+
+  @Override
+  public int hashCode() {
+    return Integer.hashCode(dayOfMonth);
+  }
+}
@@ -0,0 +1,158 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A {@link RecurrenceRule} that occurs on the nth day of the week of every month, e.g. the first Monday
+ * or the last Friday. Months without a fifth occurrence of the day are skipped.
+ *
+ * @author Flowing Code
+ */
+public final class MonthlyWeekdayRecurrence implements RecurrenceRule {
+
+  /**
+   * The ordinal of the last occurrence of a day of the week in a month.
+   */
+  public static final int LAST = -1;
+
+  private final int ordinal;
+  private final DayOfWeek weekDay;
+
+  /**
+   * Creates a rule that occurs on the nth given day of the week of every month.
+   *
+   * @param ordinal the occurrence of the day within the month, from 1 to 5, or {@link #LAST}
+   * @param weekDay the day of the week
+   * @throws IllegalArgumentException if {@code ordinal} is out of range or {@code weekDay} is null
+   */
+  public MonthlyWeekdayRecurrence(int ordinal, DayOfWeek weekDay) {
+    if (ordinal != LAST && (ordinal < 1 || ordinal > 5)) {
+      throw new IllegalArgumentException("ordinal must be between 1 and 5, or LAST");
+    }
+    if (weekDay == null) {
+      throw new IllegalArgumentException("weekDay can't be null");
+    }
+    this.ordinal = ordinal;
+    this.weekDay = weekDay;
+  }
+
+  /**
+   * Returns the occurrence of the day within the month, from 1 to 5, or {@link #LAST}.
+   */
+  public int getOrdinal() {
+    return ordinal;
+  }
+
+  /**
+   * Returns the day of the week on which this rule occurs.
+   */
+  public DayOfWeek getWeekDay() {
+    return weekDay;
+  }
+
+  @Override
+  public Set<DayOfWeek> getWeekDays() {
+    return Set.of(weekDay);
+  }
+
+  @Override
+  public boolean matches(LocalDate start, LocalDate date) {
+    if (date.getDayOfWeek() != weekDay) {
+      return false;
+    }
+    if (ordinal == LAST) {
+      return date.plusWeeks(1).getMonth() != date.getMonth();
+    }
+    return (date.getDayOfMonth() - 1) / 7 + 1 == ordinal;
+  }
+
+  @Override
+  public LocalDate next(LocalDate start, LocalDate from) {
+    YearMonth month = YearMonth.from(from);
+    while (true) {
+      LocalDate date = getOccurrence(month);
+      if (date != null && !date.isBefore(from)) {
+        return date;
+      }
+      month = month.plusMonths(1);
+    }
+  }
+
+  @Override
+  public long count(LocalDate start, LocalDate from, LocalDate to) {
+    if (!from.isBefore(to)) {
+      return 0;
+    }
+    YearMonth first = YearMonth.from(from);
+    LocalDate firstDate = getOccurrence(first);
+    if (firstDate == null || firstDate.isBefore(from)) {
+      first = first.plusMonths(1);
+    }
+    YearMonth last = YearMonth.from(to);
+    LocalDate lastDate = getOccurrence(last);
+    if (lastDate != null && lastDate.isBefore(to)) {
+      last = last.plusMonths(1);
+    }
+    if (!first.isBefore(last)) {
+      return 0;
+    }
+    if (ordinal != 5) {
+      // Every month has a first to fourth and a last occurrence
+      return ChronoUnit.MONTHS.between(first, last);
+    }
+    long count = 0;
+    for (YearMonth month = first; month.isBefore(last); month = month.plusMonths(1)) {
+      count += getOccurrence(month) != null ? 1 : 0;
+    }
+    return count;
+  }
+
+  @Override
+  public long count(LocalDate start, LocalDate from, LocalDate to, DayOfWeek day) {
+    return day == weekDay ? count(start, from, to) : 0;
+  }
+
+  // Get the occurrence within the given month, or null if the month has no such occurrence
+  private LocalDate getOccurrence(YearMonth month) {
+    if (ordinal == LAST) {
+      return month.atEndOfMonth().with(TemporalAdjusters.previousOrSame(weekDay));
+    }
+    LocalDate date = month.atDay(1).with(TemporalAdjusters.nextOrSame(weekDay)).plusWeeks(ordinal - 1);
+    return YearMonth.from(date).equals(month) ? date : null;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof MonthlyWeekdayRecurrence that && ordinal == that.ordinal && weekDay == that.weekDay;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(ordinal, weekDay);
+  }
+}
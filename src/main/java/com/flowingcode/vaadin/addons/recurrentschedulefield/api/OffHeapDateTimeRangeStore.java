@@ -0,0 +1,205 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A store of weekly {@link DateTimeRange} objects, packed outside of the Java heap.
+ *
+ * <p>
+ * Ranges are packed as in {@link DateTimeRangeStore}, but kept in direct buffers of up to 2<sup>20</sup>
+ * ranges each. The last buffer starts small and doubles as the store grows, so small stores take
+ * little off-heap memory. The heap only holds one small object per buffer, so the number of ranges
+ * has no effect on garbage collection. Off-heap memory is released when the store becomes
+ * unreachable.
+ * </p>
+ *
+ * @author Flowing Code
+ * @see PackedDateTimeRange
+ */
+public class OffHeapDateTimeRangeStore {
+
+  // Ranges per buffer: 16 MiB, since each range takes two longs
+  private static final int CHUNK_SHIFT = 20;
+  private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+  private final List<LongBuffer> chunks = new ArrayList<>();
+  // Number of ranges that fit in the allocated buffers
+  private int capacity;
+  private int size;
+
+  /**
+   * Creates an empty store with an initial capacity of 16 ranges.
+   */
+  public OffHeapDateTimeRangeStore() {
+    this(16);
+  }
+
+  /**
+   * Creates an empty store with the given initial capacity. Capacities above 2<sup>20</sup> ranges
+   * are only reserved up to that amount.
+   *
+   * @param capacity the initial capacity
+   */
+  public OffHeapDateTimeRangeStore(int capacity) {
+    if (capacity > 0) {
+      this.capacity = Math.min(capacity, CHUNK_SIZE);
+      chunks.add(allocate(this.capacity));
+    }
+  }
+
+  /**
+   * Adds a range to the store.
+   *
+   * @param range the range to add
+   * @return the position of the range
+   * @throws IllegalArgumentException if the range can't be packed
+   * @see PackedDateTimeRange#isPackable(DateTimeRange)
+   */
+  public int add(DateTimeRange range) {
+    long dates = PackedDateTimeRange.packDates(range);
+    long times = PackedDateTimeRange.packTimes(range);
+    if (size == capacity) {
+      grow();
+    }
+    write(size, dates, times);
+    return size++;
+  }
+
+  // Doubles the last buffer until it is full, then starts a new one. Only the last buffer may be
+  // partial, so positions keep mapping to buffers by their high bits
+  private void grow() {
+    int last = chunks.size() - 1;
+    int chunkCapacity = last < 0 ? CHUNK_SIZE : chunks.get(last).capacity() / 2;
+    if (chunkCapacity < CHUNK_SIZE) {
+      int newCapacity = Math.min(CHUNK_SIZE, Math.max(16, 2 * chunkCapacity));
+      LongBuffer old = chunks.get(last);
+      LongBuffer chunk = allocate(newCapacity);
+      chunk.put(0, old, 0, old.capacity());
+      chunks.set(last, chunk);
+      capacity += newCapacity - chunkCapacity;
+    } else {
+      chunks.add(allocate(16));
+      capacity += 16;
+    }
+  }
+
+  private static LongBuffer allocate(int ranges) {
+    return ByteBuffer.allocateDirect(2 * ranges * Long.BYTES).order(ByteOrder.nativeOrder())
+        .asLongBuffer();
+  }
+
+  /**
+   * Replaces the range at the given position, in place.
+   *
+   * @param index the position of the range
+   * @param range the new range
+   * @throws IndexOutOfBoundsException if there is no range at the given position
+   * @throws IllegalArgumentException if the range can't be packed
+   */
+  public void set(int index, DateTimeRange range) {
+    Objects.checkIndex(index, size);
+    write(index, PackedDateTimeRange.packDates(range), PackedDateTimeRange.packTimes(range));
+  }
+
+  private void write(int index, long dates, long times) {
+    LongBuffer chunk = chunks.get(index >>> CHUNK_SHIFT);
+    int offset = 2 * (index & CHUNK_SIZE - 1);
+    chunk.put(offset, dates);
+    chunk.put(offset + 1, times);
+  }
+
+  private long dates(int index) {
+    return chunks.get(index >>> CHUNK_SHIFT).get(2 * (index & CHUNK_SIZE - 1));
+  }
+
+  private long times(int index) {
+    return chunks.get(index >>> CHUNK_SHIFT).get(2 * (index & CHUNK_SIZE - 1) + 1);
+  }
+
+  /**
+   * Gets a copy of the range at the given position.
+   *
+   * @param index the position of the range
+   * @return a new {@link DateTimeRange}
+   * @throws IndexOutOfBoundsException if there is no range at the given position
+   */
+  public DateTimeRange get(int index) {
+    Objects.checkIndex(index, size);
+    return PackedDateTimeRange.unpack(dates(index), times(index));
+  }
+
+  /**
+   * Returns the number of ranges in the store.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks if the given date-time falls within an interval of the range at the given position.
+   *
+   * @param index the position of the range
+   * @param dateTime the date-time to check
+   * @return {@code true} if the argument is within an interval, {@code false} otherwise
+   * @throws IndexOutOfBoundsException if there is no range at the given position
+   */
+  public boolean includes(int index, LocalDateTime dateTime) {
+    Objects.checkIndex(index, size);
+    return PackedDateTimeRange.includes(dates(index), times(index), dateTime);
+  }
+
+  /**
+   * Gets the next interval of the range at the given position that ends after the given date-time.
+   *
+   * @param index the position of the range
+   * @param from the date-time after which the interval must end
+   * @return the next {@link TimeInterval}, or {@code null} if no such interval exists
+   * @throws IndexOutOfBoundsException if there is no range at the given position
+   */
+  public TimeInterval getNextInterval(int index, LocalDateTime from) {
+    Objects.checkIndex(index, size);
+    return PackedDateTimeRange.getNextInterval(dates(index), times(index), from);
+  }
+
+  /**
+   * Finds the ranges that include the given date-time.
+   *
+   * @param dateTime the date-time to check
+   * @return a {@link BitSet} where bit {@code n} is set if the range at position {@code n} includes the argument
+   */
+  public BitSet findIncluding(LocalDateTime dateTime) {
+    BitSet found = new BitSet();
+    for (int i = 0; i < size; i++) {
+      if (PackedDateTimeRange.includes(dates(i), times(i), dateTime)) {
+        found.set(i);
+      }
+    }
+    return found;
+  }
+}
@@ -0,0 +1,260 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A lossless encoding of a weekly {@link DateTimeRange} in two {@code long} values, and the
+ * evaluation of such ranges without decoding them.
+ *
+ * <p>
+ * The first value holds the epoch days of the start and (exclusive) end dates, in its upper and lower
+ * 32 bits. The second value holds, from the least significant bit, the 7-bit mask of included days
+ * (bit {@code n} for {@code DayOfWeek.of(n + 1)}), the 11-bit start and end minutes of the day, where
+ * minute {@code 1440} stands for {@link LocalTime#MAX}, and the 16-bit week interval.
+ * </p>
+ *
+ * <p>
+ * Only ranges with a {@link WeeklyRecurrence}, a single daily window on minute boundaries that is the
+ * same for every included day, and no excluded dates can be packed.
+ * </p>
+ *
+ * @author Flowing Code
+ * @see DateTimeRangeStore
+ */
+public final class PackedDateTimeRange {
+
+  static final int MINUTES_PER_DAY = 1440;
+  private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+  private static final int MAX_WEEK_INTERVAL = 0xFFFF;
+  // Epoch day 0 (1970-01-01) is a Thursday
+  private static final int EPOCH_DAY_OF_WEEK = DayOfWeek.THURSDAY.ordinal();
+
+  private PackedDateTimeRange() {
+    // utility class
+  }
+
+  /**
+   * Checks whether the given range can be packed.
+   *
+   * @param range the range to check
+   * @return {@code true} if the range can be packed without losing information, {@code false} otherwise
+   */
+  public static boolean isPackable(DateTimeRange range) {
+    return range.getExcludedDates().isEmpty() && isPackableSchedule(range);
+  }
+
+  // Check if everything but the excluded dates can be packed
+  static boolean isPackableSchedule(DateTimeRange range) {
+    if (!(range.getRecurrenceRule() instanceof WeeklyRecurrence)
+        || range.getWeekInterval() > MAX_WEEK_INTERVAL
+        || !isEpochDay(range.getStartDate()) || !isEpochDay(range.getEndDate())) {
+      return false;
+    }
+    List<LocalTime> window = range.getDailyWindows();
+    for (DayOfWeek day : range.getWeekDays()) {
+      if (!range.getDailyWindows(day).equals(window)) {
+        return false;
+      }
+    }
+    return window.size() == 2 && toMinute(window.get(0)) >= 0 && toMinute(window.get(1)) >= 0;
+  }
+
+  private static boolean isEpochDay(LocalDate date) {
+    long day = date.toEpochDay();
+    return day == (int) day;
+  }
+
+  // Minute of the day of the given time, or -1 if it is not on a minute boundary
+  private static int toMinute(LocalTime time) {
+    if (time.equals(LocalTime.MAX)) {
+      return MINUTES_PER_DAY;
+    }
+    return time.getSecond() == 0 && time.getNano() == 0 ? time.getHour() * 60 + time.getMinute() : -1;
+  }
+
+  private static LocalTime toTime(int minute) {
+    return minute == MINUTES_PER_DAY ? LocalTime.MAX : LocalTime.of(minute / 60, minute % 60);
+  }
+
+  private static long toNanos(int minute) {
+    return minute == MINUTES_PER_DAY ? LocalTime.MAX.toNanoOfDay() : minute * NANOS_PER_MINUTE;
+  }
+
+  private static void checkPackable(DateTimeRange range) {
+    if (!isPackable(range)) {
+      throw new IllegalArgumentException("range can't be packed");
+    }
+  }
+
+  /**
+   * Packs the dates of the given range.
+   *
+   * @param range the range to pack
+   * @return the epoch days of the start and end dates
+   * @throws IllegalArgumentException if the range can't be packed
+   * @see #isPackable(DateTimeRange)
+   */
+  public static long packDates(DateTimeRange range) {
+    checkPackable(range);
+    return encodeDates(range);
+  }
+
+  static long encodeDates(DateTimeRange range) {
+    return range.getStartDate().toEpochDay() << 32 | (range.getEndDate().toEpochDay() & 0xFFFFFFFFL);
+  }
+
+  /**
+   * Packs the days, times and week interval of the given range.
+   *
+   * @param range the range to pack
+   * @return the day mask, start and end minutes and week interval
+   * @throws IllegalArgumentException if the range can't be packed
+   * @see #isPackable(DateTimeRange)
+   */
+  public static long packTimes(DateTimeRange range) {
+    checkPackable(range);
+    return encodeTimes(range);
+  }
+
+  static long encodeTimes(DateTimeRange range) {
+    return range.getWeekDayMask()
+        | (long) toMinute(range.getStartTime()) << 7
+        | (long) toMinute(range.getEndTime()) << 18
+        | (long) range.getWeekInterval() << 29;
+  }
+
+  /**
+   * Creates the range encoded by the given values.
+   *
+   * @param dates the packed dates
+   * @param times the packed days, times and week interval
+   * @return a new {@link DateTimeRange}
+   */
+  public static DateTimeRange unpack(long dates, long times) {
+    Set<DayOfWeek> weekDays = EnumSet.noneOf(DayOfWeek.class);
+    for (DayOfWeek day : DayOfWeek.values()) {
+      if ((mask(times) & 1 << day.ordinal()) != 0) {
+        weekDays.add(day);
+      }
+    }
+    DateTimeRange range = new DateTimeRange(LocalDate.ofEpochDay(startDay(dates)),
+        LocalDate.ofEpochDay(endDay(dates)), toTime(startMinute(times)), toTime(endMinute(times)),
+        weekDays);
+    range.setWeekInterval(weekInterval(times));
+    return range;
+  }
+
+  /**
+   * Checks if the given date-time falls within an interval of the packed range.
+   *
+   * @param dates the packed dates
+   * @param times the packed days, times and week interval
+   * @param dateTime the date-time to check
+   * @return the same as {@link DateTimeRange#includes(LocalDateTime)} on the unpacked range
+   */
+  public static boolean includes(long dates, long times, LocalDateTime dateTime) {
+    long day = dateTime.toLocalDate().toEpochDay();
+    long time = dateTime.toLocalTime().toNanoOfDay();
+    return isIncludedDay(dates, times, day)
+        && time >= toNanos(startMinute(times)) && time < toNanos(endMinute(times));
+  }
+
+  /**
+   * Gets the next interval of the packed range that ends after the given date-time.
+   *
+   * @param dates the packed dates
+   * @param times the packed days, times and week interval
+   * @param from the date-time after which the interval must end
+   * @return the same as {@link DateTimeRange#getNextInterval(LocalDateTime)} on the unpacked range
+   */
+  public static TimeInterval getNextInterval(long dates, long times, LocalDateTime from) {
+    long start = startDay(dates);
+    long day = from.toLocalDate().toEpochDay();
+    if (day < start) {
+      day = start;
+    } else if (from.toLocalTime().toNanoOfDay() >= toNanos(endMinute(times))) {
+      day++;
+    }
+    long end = endDay(dates);
+    int interval = weekInterval(times);
+    long anchor = start - dayOfWeek(start);
+    while (day < end) {
+      long week = Math.floorDiv(day - anchor, 7);
+      long inactiveWeeks = Math.floorMod(-week, interval);
+      if (inactiveWeeks > 0) {
+        day = anchor + (week + inactiveWeeks) * 7;
+      } else if ((mask(times) & 1 << dayOfWeek(day)) != 0) {
+        LocalDate date = LocalDate.ofEpochDay(day);
+        return new TimeInterval(date.atTime(toTime(startMinute(times))),
+            date.atTime(toTime(endMinute(times))));
+      } else {
+        day++;
+      }
+    }
+    return null;
+  }
+
+  // Check if the epoch day is inside the range, on an included day of an active week
+  static boolean isIncludedDay(long dates, long times, long day) {
+    long start = startDay(dates);
+    if (day < start || day >= endDay(dates) || (mask(times) & 1 << dayOfWeek(day)) == 0) {
+      return false;
+    }
+    long anchor = start - dayOfWeek(start);
+    return Math.floorMod(Math.floorDiv(day - anchor, 7), weekInterval(times)) == 0;
+  }
+
+  // DayOfWeek.ordinal() of the given epoch day
+  private static int dayOfWeek(long day) {
+    return Math.floorMod(day + EPOCH_DAY_OF_WEEK, 7);
+  }
+
+  static int startDay(long dates) {
+    return (int) (dates >> 32);
+  }
+
+  static int endDay(long dates) {
+    return (int) dates;
+  }
+
+  static int mask(long times) {
+    return (int) (times & 0x7F);
+  }
+
+  static int startMinute(long times) {
+    return (int) (times >>> 7 & 0x7FF);
+  }
+
+  static int endMinute(long times) {
+    return (int) (times >>> 18 & 0x7FF);
+  }
+
+  static int weekInterval(long times) {
+    return (int) (times >>> 29 & MAX_WEEK_INTERVAL);
+  }
+}
@@ -0,0 +1,109 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import java.io.Serializable;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * A rule that defines on which dates a {@link DateTimeRange} generates intervals.
+ *
+ * <p>
+ * Rules are evaluated relative to the start date of the range, which they may use as an anchor
+ * (e.g. to count weeks), and never look at the end date. Implementations compute occurrences
+ * arithmetically instead of walking each day.
+ * </p>
+ *
+ * @author Flowing Code
+ * @see WeeklyRecurrence
+ * @see MonthlyDayRecurrence
+ * @see MonthlyWeekdayRecurrence
+ */
+public interface RecurrenceRule extends Serializable {
+
+  /**
+   * Checks whether the given date is an occurrence of this rule.
+   *
+   * @param start the start date of the range
+   * @param date the date to check, not before {@code start}
+   * @return {@code true} if the rule occurs on the given date, {@code false} otherwise
+   */
+  boolean matches(LocalDate start, LocalDate date);
+
+  /**
+   * Gets the first occurrence of this rule on or after the given date.
+   *
+   * @param start the start date of the range
+   * @param from the inclusive lower bound, not before {@code start}
+   * @return the next occurrence
+   */
+  LocalDate next(LocalDate start, LocalDate from);
+
+  /**
+   * Counts the occurrences of this rule between the given dates.
+   *
+   * @param start the start date of the range
+   * @param from the inclusive lower bound, not before {@code start}
+   * @param to the exclusive upper bound
+   * @return the number of occurrences
+   */
+  long count(LocalDate start, LocalDate from, LocalDate to);
+
+  /**
+   * Counts the occurrences of this rule between the given dates that fall on the given day of the week.
+   * The default implementation visits each occurrence.
+   *
+   * @param start the start date of the range
+   * @param from the inclusive lower bound, not before {@code start}
+   * @param to the exclusive upper bound
+   * @param day the day of the week
+   * @return the number of occurrences on that day of the week
+   */
+  default long count(LocalDate start, LocalDate from, LocalDate to, DayOfWeek day) {
+    long count = 0;
+    for (LocalDate date = next(start, from); date.isBefore(to); date = next(start, date.plusDays(1))) {
+      if (date.getDayOfWeek() == day) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns the days of the week on which occurrences may fall.
+   *
+   * @return an immutable set of {@link DayOfWeek}
+   */
+  Set<DayOfWeek> getWeekDays();
+
+  /**
+   * Returns the days of the week on which occurrences fall between the given dates.
+   * The default implementation returns {@link #getWeekDays()}.
+   *
+   * @param start the start date of the range
+   * @param to the exclusive upper bound
+   * @return an immutable set of {@link DayOfWeek}
+   */
+  default Set<DayOfWeek> getWeekDays(LocalDate start, LocalDate to) {
+    return getWeekDays();
+  }
+}
@@ -0,0 +1,257 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import java.time.LocalDateTime;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * A thread-safe registry of {@link DateTimeRange} objects, keyed by ID.
+ *
+ * <p>
+ * Readers take an immutable {@link Snapshot} of the whole registry with a single volatile read, and
+ * query it without locks while writers keep publishing changes. Writers build a new snapshot with
+ * their changes applied and publish it with compare-and-set, retrying if another writer published
+ * first, so every batch of changes becomes visible at once. Each publication copies the map of
+ * ranges, but not the ranges themselves, so batching many changes into one {@link #update(Consumer)}
+ * keeps writes cheap.
+ * </p>
+ *
+ * <p>
+ * Ranges are copied when they are registered and when they are read with {@link Snapshot#get(Object)},
+ * so modifying them never affects the registry.
+ * </p>
+ *
+ * @param <K> the type of the IDs
+ * @author Flowing Code
+ */
+public class ScheduleRegistry<K> {
+
+  private final AtomicReference<Snapshot<K>> current =
+      new AtomicReference<>(new Snapshot<>(Map.of(), 0));
+
+  /**
+   * An immutable view of the registry at some point in time.
+   *
+   * @param <K> the type of the IDs
+   */
+  public static final class Snapshot<K> {
+
+    private final Map<K, DateTimeRange> ranges;
+    private final long version;
+
+    private Snapshot(Map<K, DateTimeRange> ranges, long version) {
+      this.ranges = ranges;
+      this.version = version;
+    }
+
+    /**
+     * Returns the number of publications that led to this snapshot.
+     */
+    public long getVersion() {
+      return version;
+    }
+
+    /**
+     * Returns the number of registered ranges.
+     */
+    public int size() {
+      return ranges.size();
+    }
+
+    /**
+     * Returns the IDs of the registered ranges.
+     *
+     * @return an immutable set of IDs
+     */
+    public Set<K> getIds() {
+      return Collections.unmodifiableSet(ranges.keySet());
+    }
+
+    /**
+     * Checks whether a range is registered with the given ID.
+     *
+     * @param id the ID to check
+     * @return {@code true} if there is such a range, {@code false} otherwise
+     */
+    public boolean contains(K id) {
+      return ranges.containsKey(id);
+    }
+
+    /**
+     * Gets a copy of the range with the given ID.
+     *
+     * @param id the ID of the range
+     * @return a new {@link DateTimeRange}, or {@code null} if there is no such range
+     */
+    public DateTimeRange get(K id) {
+      DateTimeRange range = ranges.get(id);
+      return range != null ? new DateTimeRange(range) : null;
+    }
+
+    /**
+     * Checks if the given date-time falls within an interval of the range with the given ID.
+     *
+     * @param id the ID of the range
+     * @param dateTime the date-time to check
+     * @return {@code true} if there is such a range and it includes the argument, {@code false} otherwise
+     */
+    public boolean includes(K id, LocalDateTime dateTime) {
+      DateTimeRange range = ranges.get(id);
+      return range != null && range.includes(dateTime);
+    }
+
+    /**
+     * Gets the next interval of the range with the given ID that ends after the given date-time.
+     *
+     * @param id the ID of the range
+     * @param from the date-time after which the interval must end
+     * @return the next {@link TimeInterval}, or {@code null} if there is no such range or interval
+     */
+    public TimeInterval getNextInterval(K id, LocalDateTime from) {
+      DateTimeRange range = ranges.get(id);
+      return range != null ? range.getNextInterval(from) : null;
+    }
+
+    /**
+     * Finds the ranges that include the given date-time.
+     *
+     * @param dateTime the date-time to check
+     * @return the IDs of the ranges that include the argument
+     */
+    public Set<K> findIncluding(LocalDateTime dateTime) {
+      Set<K> found = new HashSet<>();
+      ranges.forEach((id, range) -> {
+        if (range.includes(dateTime)) {
+          found.add(id);
+        }
+      });
+      return found;
+    }
+  }
+
+  /**
+   * A batch of changes, applied at once by {@link ScheduleRegistry#update(Consumer)}.
+   *
+   * @param <K> the type of the IDs
+   */
+  public static final class Batch<K> {
+
+    // Changes in order, where a null range stands for a removal
+    private final List<Map.Entry<K, DateTimeRange>> changes = new ArrayList<>();
+
+    private Batch() {
+    }
+
+    /**
+     * Registers a copy of the given range, replacing any range with the same ID.
+     *
+     * @param id the ID of the range
+     * @param range the range to register
+     * @return this batch
+     */
+    public Batch<K> put(K id, DateTimeRange range) {
+      changes.add(new SimpleImmutableEntry<>(Objects.requireNonNull(id), new DateTimeRange(range)));
+      return this;
+    }
+
+    /**
+     * Unregisters the range with the given ID, if any.
+     *
+     * @param id the ID of the range
+     * @return this batch
+     */
+    public Batch<K> remove(K id) {
+      changes.add(new SimpleImmutableEntry<>(Objects.requireNonNull(id), null));
+      return this;
+    }
+
+    private Map<K, DateTimeRange> applyTo(Map<K, DateTimeRange> ranges) {
+      Map<K, DateTimeRange> result = new HashMap<>(ranges);
+      for (Map.Entry<K, DateTimeRange> change : changes) {
+        if (change.getValue() != null) {
+          result.put(change.getKey(), change.getValue());
+        } else {
+          result.remove(change.getKey());
+        }
+      }
+      return result;
+    }
+  }
+
+  /**
+   * Gets the latest published snapshot. The snapshot never changes, no matter how many changes are
+   * published afterwards.
+   *
+   * @return the current {@link Snapshot}
+   */
+  public Snapshot<K> snapshot() {
+    return current.get();
+  }
+
+  /**
+   * Registers a copy of the given range, replacing any range with the same ID.
+   *
+   * @param id the ID of the range
+   * @param range the range to register
+   * @return the snapshot that contains the change
+   */
+  public Snapshot<K> put(K id, DateTimeRange range) {
+    return update(batch -> batch.put(id, range));
+  }
+
+  /**
+   * Unregisters the range with the given ID, if any.
+   *
+   * @param id the ID of the range
+   * @return the snapshot that contains the change
+   */
+  public Snapshot<K> remove(K id) {
+    return update(batch -> batch.remove(id));
+  }
+
+  /**
+   * Applies a batch of changes and publishes them at once. Readers see either none or all of them.
+   *
+   * @param changes a callback that adds the changes to the given batch; it runs once, before publishing
+   * @return the snapshot that contains the changes
+   */
+  public Snapshot<K> update(Consumer<Batch<K>> changes) {
+    Batch<K> batch = new Batch<>();
+    changes.accept(batch);
+    while (true) {
+      Snapshot<K> snapshot = current.get();
+      Snapshot<K> next = new Snapshot<>(batch.applyTo(snapshot.ranges), snapshot.version + 1);
+      if (current.compareAndSet(snapshot, next)) {
+        return next;
+      }
+    }
+  }
+}
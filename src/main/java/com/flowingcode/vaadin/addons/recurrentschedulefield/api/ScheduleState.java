@@ -0,0 +1,134 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * A cached view of whether a {@link DateTimeRange} is active.
+ *
+ * <p>
+ * The state is computed once, together with the instant of the next transition between active and
+ * inactive. Until that instant is reached, {@link #isActive(Clock)} only reads the clock and
+ * compares two {@code long} values. Instances are safe to share across threads: the cached state is
+ * an immutable snapshot published through a {@code volatile} field, and concurrent refreshes at a
+ * transition just compute the same snapshot more than once.
+ * </p>
+ *
+ * <p>
+ * Modifying the range (e.g. through {@link DateTimeRange#setWeekDays(java.util.Set)}) does not
+ * update its cached state; call {@link #invalidate()} afterwards.
+ * </p>
+ *
+ * @author Flowing Code
+ */
+public class ScheduleState implements Serializable {
+
+  private final DateTimeRange range;
+  private transient volatile Snapshot snapshot;
+
+  private static final class Snapshot {
+
+    private final ZoneId zone;
+    private final boolean active;
+    // Epoch millisecond (rounded down) until which the state holds
+    private final long until;
+    private final LocalDateTime nextTransition;
+
+    private Snapshot(ZoneId zone, boolean active, LocalDateTime nextTransition) {
+      this.zone = zone;
+      this.active = active;
+      this.nextTransition = nextTransition;
+      this.until = nextTransition == null ? Long.MAX_VALUE
+          : nextTransition.atZone(zone).toInstant().toEpochMilli();
+    }
+  }
+
+  /**
+   * Creates a new cached view of the given range.
+   *
+   * @param range the range to observe
+   */
+  public ScheduleState(DateTimeRange range) {
+    this.range = Objects.requireNonNull(range);
+  }
+
+  /**
+   * Returns the observed range.
+   */
+  public DateTimeRange getRange() {
+    return range;
+  }
+
+  /**
+   * Checks whether the range includes the current date and time of the given clock.
+   *
+   * @param clock the clock that provides the current instant and time-zone
+   * @return {@code true} if the range is active, {@code false} otherwise
+   */
+  public boolean isActive(Clock clock) {
+    return getSnapshot(clock.millis(), clock).active;
+  }
+
+  /**
+   * Returns the date-time, in the time-zone of the given clock, at which the range next switches
+   * between active and inactive.
+   *
+   * @param clock the clock that provides the current instant and time-zone
+   * @return the next transition, or {@code null} if the range never changes its state again
+   */
+  public LocalDateTime getNextTransition(Clock clock) {
+    return getSnapshot(clock.millis(), clock).nextTransition;
+  }
+
+  /**
+   * Discards the cached state, so that it is computed again on the next check.
+   */
+  public void invalidate() {
+    snapshot = null;
+  }
+
+  private Snapshot getSnapshot(long now, Clock clock) {
+    Snapshot current = snapshot;
+    if (current != null && now < current.until && current.zone.equals(clock.getZone())) {
+      return current;
+    }
+    current = compute(now, clock.getZone());
+    snapshot = current;
+    return current;
+  }
+
+  private Snapshot compute(long now, ZoneId zone) {
+    LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(now), zone);
+    TimeInterval next = range.getNextInterval(dateTime);
+    if (next == null) {
+      return new Snapshot(zone, false, null);
+    }
+    if (next.includes(dateTime)) {
+      return new Snapshot(zone, true, next.getEndDate());
+    }
+    return new Snapshot(zone, false, next.getStartDate());
+  }
+}
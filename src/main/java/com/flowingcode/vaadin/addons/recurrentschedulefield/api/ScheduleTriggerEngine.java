@@ -0,0 +1,324 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Invokes callbacks when the intervals of registered {@link DateTimeRange} instances start and end.
+ *
+ * <p>
+ * Only the next edge (start or end) of each range is kept in a single priority queue, and the
+ * following one is computed when it fires. Thus, memory and CPU usage depend on the number of
+ * registered ranges, not on the number of intervals they generate. Cancelled edges are left in the
+ * queue and discarded when they reach its head, or when they outnumber the pending ones.
+ * </p>
+ *
+ * <p>
+ * Edges can be fired by calling {@link #fireDue()} periodically, or automatically by
+ * {@link #start(ScheduledExecutorService) starting} the engine on an executor, which sleeps until
+ * the next edge is due. Date-times are evaluated in the time-zone of the engine's {@link Clock}.
+ * This class is thread-safe. Listeners are invoked without holding any lock. An exception thrown
+ * by a listener is logged and does not prevent the remaining due edges from being fired.
+ * </p>
+ *
+ * @author Flowing Code
+ */
+public class ScheduleTriggerEngine {
+
+  private static final Logger LOGGER = System.getLogger(ScheduleTriggerEngine.class.getName());
+
+  private final Clock clock;
+  private final PriorityQueue<Edge> queue = new PriorityQueue<>();
+  private ScheduledExecutorService executor;
+  private ScheduledFuture<?> wakeUp;
+  private LocalDateTime wakeUpAt;
+  private long sequence;
+  // Number of edges in the queue whose trigger has been cancelled
+  private int cancelled;
+
+  /**
+   * Creates a new engine that uses the system clock in the default time-zone.
+   */
+  public ScheduleTriggerEngine() {
+    this(Clock.systemDefaultZone());
+  }
+
+  /**
+   * Creates a new engine that uses the given clock.
+   *
+   * @param clock the clock that provides the current date-time
+   */
+  public ScheduleTriggerEngine(Clock clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * Registers a range whose interval edges will be notified to the given listener.
+   * If an interval is in progress, its start is notified when due edges are next fired.
+   * The range is copied, so later changes to it don't affect the notifications.
+   *
+   * @param range the range to watch
+   * @param listener the listener to notify
+   * @return a handle that allows cancelling the notifications
+   */
+  public Trigger register(DateTimeRange range, TriggerListener listener) {
+    Trigger trigger = new Trigger(new DateTimeRange(range), listener);
+    TimeInterval interval = trigger.range.getNextInterval(LocalDateTime.now(clock));
+    if (interval != null) {
+      synchronized (this) {
+        schedule(trigger, interval, true);
+        reschedule();
+      }
+    }
+    return trigger;
+  }
+
+  /**
+   * Fires all edges that are due according to the engine's clock.
+   *
+   * @return the number of listener invocations
+   */
+  public int fireDue() {
+    List<Edge> due = new ArrayList<>();
+    synchronized (this) {
+      LocalDateTime now = LocalDateTime.now(clock);
+      while (peek() != null && !queue.peek().at.isAfter(now)) {
+        Edge edge = queue.poll();
+        edge.trigger.edge = null;
+        due.add(edge);
+        if (edge.start) {
+          schedule(edge.trigger, edge.interval, false);
+        } else {
+          TimeInterval next = edge.trigger.range.getNextInterval(edge.interval.getEndDate());
+          if (next != null) {
+            schedule(edge.trigger, next, true);
+          }
+        }
+      }
+      reschedule();
+    }
+
+    int fired = 0;
+    for (Edge edge : due) {
+      if (!edge.trigger.cancelled) {
+        try {
+          if (edge.start) {
+            edge.trigger.listener.onStart(edge.trigger.range, edge.interval);
+          } else {
+            edge.trigger.listener.onEnd(edge.trigger.range, edge.interval);
+          }
+        } catch (RuntimeException e) {
+          LOGGER.log(Level.ERROR, () -> "Trigger listener failed on "
+              + (edge.start ? "start" : "end") + " of " + edge.interval, e);
+        }
+        fired++;
+      }
+    }
+    return fired;
+  }
+
+  /**
+   * Gets the date-time of the next edge, in the time-zone of the engine's clock.
+   *
+   * @return the date-time when the next edge is due, or {@code null} if there are no pending edges
+   */
+  public synchronized LocalDateTime getNextEdge() {
+    Edge edge = peek();
+    return edge == null ? null : edge.at;
+  }
+
+  /**
+   * Gets the number of ranges with pending edges.
+   */
+  public synchronized int size() {
+    return queue.size() - cancelled;
+  }
+
+  /**
+   * Fires edges automatically, waking up on the given executor only when the next edge is due.
+   *
+   * @param executor the executor that runs the engine and the listeners
+   */
+  public synchronized void start(ScheduledExecutorService executor) {
+    stop();
+    this.executor = executor;
+    reschedule();
+  }
+
+  /**
+   * Stops firing edges automatically. Registered ranges are kept.
+   */
+  public synchronized void stop() {
+    if (wakeUp != null) {
+      wakeUp.cancel(false);
+    }
+    executor = null;
+    wakeUp = null;
+    wakeUpAt = null;
+  }
+
+  // Gets the earliest edge that has not been cancelled, discarding the cancelled ones before it
+  private Edge peek() {
+    Edge edge;
+    while ((edge = queue.peek()) != null && edge.trigger.cancelled) {
+      queue.poll();
+      cancelled--;
+    }
+    return edge;
+  }
+
+  private void schedule(Trigger trigger, TimeInterval interval, boolean start) {
+    Edge edge = new Edge(trigger, interval, start, sequence++);
+    trigger.edge = edge;
+    queue.add(edge);
+  }
+
+  // Makes sure the executor wakes up in time for the earliest edge
+  private void reschedule() {
+    LocalDateTime next = getNextEdge();
+    if (executor == null || next == null || next.equals(wakeUpAt)) {
+      return;
+    }
+    if (wakeUp != null) {
+      wakeUp.cancel(false);
+    }
+    // Round up, otherwise an edge less than a millisecond away would wake up too early, again and again
+    Duration remaining = Duration.between(LocalDateTime.now(clock), next);
+    long delay = Math.max(0, remaining.plusNanos(999_999).toMillis());
+    wakeUpAt = next;
+    wakeUp = executor.schedule(this::wakeUp, delay, TimeUnit.MILLISECONDS);
+  }
+
+  private void wakeUp() {
+    synchronized (this) {
+      wakeUp = null;
+      wakeUpAt = null;
+    }
+    fireDue();
+  }
+
+  private synchronized void cancel(Trigger trigger) {
+    if (trigger.cancelled) {
+      return;
+    }
+    trigger.cancelled = true;
+    if (trigger.edge != null) {
+      trigger.edge = null;
+      if (++cancelled > queue.size() / 2) {
+        queue.removeIf(edge -> edge.trigger.cancelled);
+        cancelled = 0;
+      }
+    }
+  }
+
+  /**
+   * Receives the edges of the intervals of a registered range.
+   */
+  public interface TriggerListener {
+
+    /**
+     * Called when an interval starts.
+     *
+     * @param range the registered range
+     * @param interval the interval that started
+     */
+    default void onStart(DateTimeRange range, TimeInterval interval) {}
+
+    /**
+     * Called when an interval ends.
+     *
+     * @param range the registered range
+     * @param interval the interval that ended
+     */
+    default void onEnd(DateTimeRange range, TimeInterval interval) {}
+  }
+
+  /**
+   * A registration of a range in a {@link ScheduleTriggerEngine}.
+   */
+  public final class Trigger {
+
+    private final DateTimeRange range;
+    private final TriggerListener listener;
+    private volatile boolean cancelled;
+    private Edge edge;
+
+    private Trigger(DateTimeRange range, TriggerListener listener) {
+      this.range = range;
+      this.listener = listener;
+    }
+
+    /**
+     * Gets the copy of the range that was registered.
+     */
+    public DateTimeRange getRange() {
+      return range;
+    }
+
+    /**
+     * Stops notifying the edges of the registered range.
+     */
+    public void cancel() {
+      ScheduleTriggerEngine.this.cancel(this);
+    }
+
+    /**
+     * Checks whether this trigger has been cancelled.
+     */
+    public boolean isCancelled() {
+      return cancelled;
+    }
+  }
+
+  // The next start or end of an interval. Ties are broken by insertion order
+  private static final class Edge implements Comparable<Edge> {
+
+    private final Trigger trigger;
+    private final TimeInterval interval;
+    private final boolean start;
+    private final LocalDateTime at;
+    private final long sequence;
+
+    private Edge(Trigger trigger, TimeInterval interval, boolean start, long sequence) {
+      this.trigger = trigger;
+      this.interval = interval;
+      this.start = start;
+      this.at = start ? interval.getStartDate() : interval.getEndDate();
+      this.sequence = sequence;
+    }
+
+    @Override
+    public int compareTo(Edge o) {
+      int result = at.compareTo(o.at);
+      return result != 0 ? result : Long.compare(sequence, o.sequence);
+    }
+  }
+}
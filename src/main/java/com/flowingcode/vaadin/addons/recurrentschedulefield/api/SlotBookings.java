@@ -0,0 +1,217 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe reservations of the slots of a {@link TimeSlots}, each one with the same capacity.
+ *
+ * <p>
+ * Slots are identified by their position, as returned by {@link TimeSlots#getSlotIndex(java.time.LocalDateTime)}.
+ * Only slots that have been reserved at least once keep a counter, so a schedule with years of slots
+ * costs nothing until it is booked. Counters are updated under 64 striped locks, where consecutive
+ * slots fall in different stripes, so reservations of nearby slots rarely contend. A reservation of
+ * several slots takes the locks of all of them, in ascending order, so it is applied atomically and
+ * never deadlocks. Reading a counter doesn't lock, so it may observe a reservation of several slots
+ * that has only been applied to some of them.
+ * The number of slots is read when the reservations are created.
+ * </p>
+ *
+ * @author Flowing Code
+ */
+public class SlotBookings {
+
+  // Number of striped locks, one bit of a long each
+  private static final int STRIPES = Long.SIZE;
+
+  private final long slotCount;
+  private final int capacity;
+  // Number of reservations of each slot that has been reserved at least once
+  private final ConcurrentMap<Long, AtomicInteger> reserved = new ConcurrentHashMap<>();
+  // Slot n is guarded by locks[n % STRIPES]
+  private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+  /**
+   * Creates reservations for the given slots.
+   *
+   * @param slots the slots that can be reserved
+   * @param capacity the number of reservations each slot accepts
+   * @throws IllegalArgumentException if {@code capacity} is less than 1
+   */
+  public SlotBookings(TimeSlots slots, int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be at least 1");
+    }
+    this.slotCount = slots.getSlotCount();
+    this.capacity = capacity;
+    for (int i = 0; i < STRIPES; i++) {
+      locks[i] = new ReentrantLock();
+    }
+  }
+
+  /**
+   * Returns the number of reservations each slot accepts.
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Reserves one place in the given slot.
+   *
+   * @param index the position of the slot
+   * @return {@code true} if the place was reserved, {@code false} if the slot is full
+   * @throws IndexOutOfBoundsException if there is no slot at the given position
+   */
+  public boolean reserve(long index) {
+    return reserve(index, 1);
+  }
+
+  /**
+   * Reserves one place in each of several consecutive slots, e.g. for an appointment that lasts
+   * several slots. Either every slot is reserved or none is, and no other call sees the places of
+   * a reservation that fails.
+   *
+   * @param index the position of the first slot
+   * @param count the number of consecutive slots
+   * @return {@code true} if every slot was reserved, {@code false} if some slot is full
+   * @throws IllegalArgumentException if {@code count} is less than 1
+   * @throws IndexOutOfBoundsException if some of the slots does not exist
+   */
+  public boolean reserve(long index, int count) {
+    checkRange(index, count);
+    long stripes = lock(index, count);
+    try {
+      for (int i = 0; i < count; i++) {
+        if (getCount(index + i) == capacity) {
+          return false;
+        }
+      }
+      for (int i = 0; i < count; i++) {
+        reserved.computeIfAbsent(index + i, key -> new AtomicInteger()).incrementAndGet();
+      }
+      return true;
+    } finally {
+      unlock(stripes);
+    }
+  }
+
+  /**
+   * Releases one place of the given slot.
+   *
+   * @param index the position of the slot
+   * @throws IndexOutOfBoundsException if there is no slot at the given position
+   * @throws IllegalStateException if the slot has no reservations
+   */
+  public void release(long index) {
+    release(index, 1);
+  }
+
+  /**
+   * Releases one place of each of several consecutive slots. Either every slot is released or none is.
+   *
+   * @param index the position of the first slot
+   * @param count the number of consecutive slots
+   * @throws IllegalArgumentException if {@code count} is less than 1
+   * @throws IndexOutOfBoundsException if some of the slots does not exist
+   * @throws IllegalStateException if some slot has no reservations
+   */
+  public void release(long index, int count) {
+    checkRange(index, count);
+    long stripes = lock(index, count);
+    try {
+      for (int i = 0; i < count; i++) {
+        if (getCount(index + i) == 0) {
+          throw new IllegalStateException("slot " + (index + i) + " has no reservations");
+        }
+      }
+      for (int i = 0; i < count; i++) {
+        reserved.get(index + i).decrementAndGet();
+      }
+    } finally {
+      unlock(stripes);
+    }
+  }
+
+  // Locks the stripes of the given consecutive slots in ascending order, returning them as a bitmask
+  private long lock(long index, int count) {
+    long stripes = 0;
+    for (int i = 0; i < Math.min(count, STRIPES); i++) {
+      // the shift distance is taken modulo 64, i.e. the stripe of the slot
+      stripes |= 1L << (index + i);
+    }
+    for (long pending = stripes; pending != 0; pending &= pending - 1) {
+      locks[Long.numberOfTrailingZeros(pending)].lock();
+    }
+    return stripes;
+  }
+
+  private void unlock(long stripes) {
+    for (long pending = stripes; pending != 0; pending &= pending - 1) {
+      locks[Long.numberOfTrailingZeros(pending)].unlock();
+    }
+  }
+
+  private int getCount(long index) {
+    AtomicInteger counter = reserved.get(index);
+    return counter != null ? counter.get() : 0;
+  }
+
+  /**
+   * Gets the number of reservations of the given slot.
+   *
+   * @param index the position of the slot
+   * @return the number of reserved places, between {@code 0} and the capacity
+   * @throws IndexOutOfBoundsException if there is no slot at the given position
+   */
+  public int getReserved(long index) {
+    checkIndex(index);
+    return getCount(index);
+  }
+
+  /**
+   * Gets the number of places left in the given slot.
+   *
+   * @param index the position of the slot
+   * @return the number of free places, between {@code 0} and the capacity
+   * @throws IndexOutOfBoundsException if there is no slot at the given position
+   */
+  public int getAvailable(long index) {
+    return capacity - getReserved(index);
+  }
+
+  private void checkIndex(long index) {
+    if (index < 0 || index >= slotCount) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Count: " + slotCount);
+    }
+  }
+
+  private void checkRange(long index, int count) {
+    if (count < 1) {
+      throw new IllegalArgumentException("count must be at least 1");
+    }
+    checkIndex(index);
+    checkIndex(index + count - 1);
+  }
+}
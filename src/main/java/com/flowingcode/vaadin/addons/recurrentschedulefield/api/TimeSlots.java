@@ -0,0 +1,257 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * The bookable slots of a {@link DateTimeRange}, obtained by splitting each of its intervals into
+ * consecutive slots of a fixed length, e.g. 30-minute appointments. The remainder of an interval that
+ * is shorter than a slot is left out.
+ *
+ * <p>
+ * Slots are never stored: they are generated lazily while iterating, and the number of slots, the
+ * position of a slot and the slot at a given position are computed from the number of included days
+ * of each day of the week, so paging over months of slots only creates the requested ones.
+ * The range is copied when the slots are created, so later changes to it are not reflected.
+ * </p>
+ *
+ * @author Flowing Code
+ * @see DateTimeRange#getDailyWindows(DayOfWeek)
+ */
+public class TimeSlots implements Iterable<TimeInterval> {
+
+  private static final long NANOS_PER_DAY = Duration.ofDays(1).toNanos();
+
+  private final DateTimeRange range;
+  private final long step;
+  // Indexed by DayOfWeek.ordinal(): start and end nano-of-day of each window, as in DateTimeRange
+  private final long[][] windows = new long[7][];
+  // Indexed by DayOfWeek.ordinal(): number of slots of each included day
+  private final long[] slotsPerDay = new long[7];
+
+  /**
+   * Creates the slots of the given range.
+   *
+   * @param range the range whose intervals are split
+   * @param step the length of each slot
+   * @throws IllegalArgumentException if {@code step} is not positive
+   */
+  public TimeSlots(DateTimeRange range, Duration step) {
+    if (step.isNegative() || step.isZero()) {
+      throw new IllegalArgumentException("step must be positive");
+    }
+    this.range = new DateTimeRange(range);
+    this.step = step.toNanos();
+    for (DayOfWeek day : this.range.getWeekDays()) {
+      List<LocalTime> bounds = this.range.getDailyWindows(day);
+      long[] dayWindows = new long[bounds.size()];
+      for (int i = 0; i < dayWindows.length; i++) {
+        dayWindows[i] = toNanos(bounds.get(i));
+      }
+      windows[day.ordinal()] = dayWindows;
+      for (int i = 0; i < dayWindows.length; i += 2) {
+        slotsPerDay[day.ordinal()] += getSlotCount(dayWindows, i);
+      }
+    }
+  }
+
+  // An interval that ends at LocalTime.MAX lasts until midnight
+  private static long toNanos(LocalTime time) {
+    return time.equals(LocalTime.MAX) ? NANOS_PER_DAY : time.toNanoOfDay();
+  }
+
+  private static LocalTime toTime(long nanos) {
+    return nanos == NANOS_PER_DAY ? LocalTime.MAX : LocalTime.ofNanoOfDay(nanos);
+  }
+
+  // Number of slots of the window that starts at the given position
+  private long getSlotCount(long[] windows, int i) {
+    return (windows[i + 1] - windows[i]) / step;
+  }
+
+  /**
+   * Returns the length of each slot.
+   */
+  public Duration getStep() {
+    return Duration.ofNanos(step);
+  }
+
+  /**
+   * Returns an iterator over all the slots, sorted by their start.
+   */
+  @Override
+  public Iterator<TimeInterval> iterator() {
+    return iterator(range.getStartDate().atStartOfDay());
+  }
+
+  /**
+   * Lazily generates the slots that end after the given date-time.
+   *
+   * @param from the date-time after which slots must end
+   * @return an iterator over the remaining slots, sorted by their start
+   */
+  public Iterator<TimeInterval> iterator(LocalDateTime from) {
+    Iterator<TimeInterval> intervals = range.iterator(from);
+    return new Iterator<>() {
+      private LocalDate date;
+      // Start of the next slot, and end of the interval it belongs to, as nano-of-day
+      private long start;
+      private long end;
+
+      @Override
+      public boolean hasNext() {
+        while (date == null || start + step > end) {
+          if (!intervals.hasNext()) {
+            return false;
+          }
+          TimeInterval interval = intervals.next();
+          date = interval.getStartDate().toLocalDate();
+          start = interval.getStartDate().toLocalTime().toNanoOfDay();
+          end = toNanos(interval.getEndDate().toLocalTime());
+          if (date.equals(from.toLocalDate())) {
+            // Skip the slots that already ended
+            start += Math.max(0, Math.floorDiv(from.toLocalTime().toNanoOfDay() - start, step)) * step;
+          }
+        }
+        return true;
+      }
+
+      @Override
+      public TimeInterval next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        TimeInterval slot = getSlot(date, start);
+        start += step;
+        return slot;
+      }
+    };
+  }
+
+  private TimeInterval getSlot(LocalDate date, long start) {
+    return new TimeInterval(date.atTime(toTime(start)), date.atTime(toTime(start + step)));
+  }
+
+  /**
+   * Gets the number of slots, without generating them.
+   *
+   * @return the total number of slots returned by {@link #iterator()}
+   */
+  public long getSlotCount() {
+    return countSlots(range.getEndDate());
+  }
+
+  // Count the slots of the included days before the given date
+  private long countSlots(LocalDate to) {
+    long count = 0;
+    for (DayOfWeek day : range.getWeekDays()) {
+      count += range.countDays(range.getStartDate(), to, day) * slotsPerDay[day.ordinal()];
+    }
+    return count;
+  }
+
+  /**
+   * Gets the position of the slot that contains the given date-time, or of the first slot after it.
+   *
+   * @param dateTime the date-time to locate
+   * @return the number of slots that end at or before {@code dateTime}, which is {@link #getSlotCount()}
+   * if no slot ends after it
+   */
+  public long getSlotIndex(LocalDateTime dateTime) {
+    LocalDate date = dateTime.toLocalDate();
+    if (date.isBefore(range.getStartDate())) {
+      return 0;
+    }
+    long index = countSlots(date);
+    if (range.includes(date)) {
+      long[] dayWindows = windows[date.getDayOfWeek().ordinal()];
+      long time = dateTime.toLocalTime().toNanoOfDay();
+      for (int i = 0; i < dayWindows.length && dayWindows[i] <= time; i += 2) {
+        index += Math.min(getSlotCount(dayWindows, i), (time - dayWindows[i]) / step);
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Gets the slot at the given position, without generating the preceding ones.
+   *
+   * @param index the zero-based position of the slot, in chronological order
+   * @return the slot at the given position
+   * @throws IndexOutOfBoundsException if {@code index} is negative or not less than {@link #getSlotCount()}
+   */
+  public TimeInterval getSlot(long index) {
+    long count = getSlotCount();
+    if (index < 0 || index >= count) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Count: " + count);
+    }
+    // Binary search for the first day whose slots reach past the given position
+    LocalDate startDate = range.getStartDate();
+    long low = 0;
+    long high = DAYS.between(startDate, range.getEndDate()) - 1;
+    while (low < high) {
+      long mid = (low + high) >>> 1;
+      if (countSlots(startDate.plusDays(mid + 1)) > index) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    LocalDate date = startDate.plusDays(low);
+    long remaining = index - countSlots(date);
+    long[] dayWindows = windows[date.getDayOfWeek().ordinal()];
+    int i = 0;
+    while (remaining >= getSlotCount(dayWindows, i)) {
+      remaining -= getSlotCount(dayWindows, i);
+      i += 2;
+    }
+    return getSlot(date, dayWindows[i] + remaining * step);
+  }
+
+  /**
+   * Gets a page of slots, generating only the requested ones.
+   *
+   * @param offset the zero-based position of the first slot to return
+   * @param limit the maximum number of slots to return
+   * @return a list of at most {@code limit} slots, sorted by their start
+   */
+  public List<TimeInterval> getSlots(long offset, int limit) {
+    List<TimeInterval> slots = new ArrayList<>();
+    if (limit <= 0 || offset < 0 || offset >= getSlotCount()) {
+      return slots;
+    }
+    Iterator<TimeInterval> iterator = iterator(getSlot(offset).getStartDate());
+    while (slots.size() < limit && iterator.hasNext()) {
+      slots.add(iterator.next());
+    }
+    return slots;
+  }
+}
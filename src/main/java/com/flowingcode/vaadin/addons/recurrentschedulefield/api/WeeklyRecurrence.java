@@ -0,0 +1,156 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import static java.time.temporal.ChronoUnit.DAYS;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A {@link RecurrenceRule} that occurs on some days of the week, every week or once every few weeks.
+ * Weeks start on Monday and are counted from the week that contains the start date of the range,
+ * which is always active.
+ *
+ * @author Flowing Code
+ */
+public final class WeeklyRecurrence implements RecurrenceRule {
+
+  private final Set<DayOfWeek> weekDays;
+  private final int interval;
+
+  /**
+   * Creates a rule that occurs every week on the given days.
+   *
+   * @param weekDays the days of the week
+   * @throws IllegalArgumentException if {@code weekDays} is null or empty
+   */
+  public WeeklyRecurrence(Set<DayOfWeek> weekDays) {
+    this(weekDays, 1);
+  }
+
+  /**
+   * Creates a rule that occurs on the given days, once every given number of weeks.
+   *
+   * @param weekDays the days of the week
+   * @param interval the number of weeks between active weeks, e.g. {@code 2} for every other week
+   * @throws IllegalArgumentException if {@code weekDays} is null or empty, or if {@code interval} is less than 1
+   */
+  public WeeklyRecurrence(Set<DayOfWeek> weekDays, int interval) {
+    if (weekDays == null || weekDays.isEmpty()) {
+      throw new IllegalArgumentException("weekDays can't be null or empty");
+    }
+    if (interval < 1) {
+      throw new IllegalArgumentException("weeks must be at least 1");
+    }
+    this.weekDays = Set.copyOf(EnumSet.copyOf(weekDays));
+    this.interval = interval;
+  }
+
+  /**
+   * Returns the number of weeks between active weeks.
+   */
+  public int getInterval() {
+    return interval;
+  }
+
+  @Override
+  public Set<DayOfWeek> getWeekDays() {
+    return weekDays;
+  }
+
+  @Override
+  public boolean matches(LocalDate start, LocalDate date) {
+    return weekDays.contains(date.getDayOfWeek())
+        && Math.floorMod(getWeekIndex(start, date), interval) == 0;
+  }
+
+  @Override
+  public LocalDate next(LocalDate start, LocalDate from) {
+    LocalDate date = from;
+    while (true) {
+      long week = getWeekIndex(start, date);
+      long inactiveWeeks = Math.floorMod(-week, interval);
+      if (inactiveWeeks > 0) {
+        date = getAnchor(start).plusWeeks(week + inactiveWeeks);
+      }
+      DayOfWeek day = date.getDayOfWeek();
+      while (!weekDays.contains(day) && day != DayOfWeek.SUNDAY) {
+        day = day.plus(1);
+        date = date.plusDays(1);
+      }
+      if (weekDays.contains(day)) {
+        return date;
+      }
+      // No included day left in this week
+      date = date.plusDays(1);
+    }
+  }
+
+  @Override
+  public long count(LocalDate start, LocalDate from, LocalDate to) {
+    long count = 0;
+    for (DayOfWeek day : weekDays) {
+      count += count(start, from, to, day);
+    }
+    return count;
+  }
+
+  @Override
+  public long count(LocalDate start, LocalDate from, LocalDate to, DayOfWeek day) {
+    if (!weekDays.contains(day)) {
+      return 0;
+    }
+    LocalDate first = from.with(TemporalAdjusters.nextOrSame(day));
+    if (!first.isBefore(to)) {
+      return 0;
+    }
+    long weeks = (DAYS.between(first, to) + 6) / 7;
+    long week = getWeekIndex(start, first);
+    // Multiples of interval between week and week + weeks (exclusive)
+    return Math.floorDiv(week + weeks - 1, interval) - Math.floorDiv(week - 1, interval);
+  }
+
+  // Monday of the week that contains the start date, from which weeks are counted
+  private static LocalDate getAnchor(LocalDate start) {
+    return start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+  }
+
+  private static long getWeekIndex(LocalDate start, LocalDate date) {
+    return Math.floorDiv(DAYS.between(getAnchor(start), date), 7);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (!(o instanceof WeeklyRecurrence that)) {
+      return false;
+    }
+    return interval == that.interval && weekDays.equals(that.weekDays);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(weekDays, interval);
+  }
+}
@@ -0,0 +1,155 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.ui;
+
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.HasSize;
+import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.component.dependency.JsModule;
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import java.time.DayOfWeek;
+import java.time.YearMonth;
+
+/**
+ * A calendar heatmap showing which days are covered by a {@link DateTimeRange}.
+ *
+ * <p>
+ * Coverage is computed on demand for the visible months only, and each month is sent to the client
+ * as a single bitset. Navigating across years never expands the whole range.
+ * </p>
+ *
+ * @author Flowing Code
+ * @see DateTimeRange#getMonthCoverage(YearMonth)
+ */
+@Tag("fc-rsf-coverage-calendar")
+@JsModule("./src/fc-rsf-coverage-calendar.js")
+public class CoverageCalendar extends Component implements HasSize {
+
+  private static final int DEFAULT_VISIBLE_MONTHS = 12;
+
+  private DateTimeRange value;
+  private YearMonth firstMonth = YearMonth.now();
+  private int visibleMonths = DEFAULT_VISIBLE_MONTHS;
+
+  /**
+   * Creates an empty {@code CoverageCalendar} starting at the current month.
+   */
+  public CoverageCalendar() {
+    setFirstDayOfWeek(DayOfWeek.SUNDAY);
+    getElement().addEventListener("navigate", ev -> {
+      int delta = (int) ev.getEventData().getNumber("event.detail.delta");
+      setFirstMonth(firstMonth.plusMonths(delta));
+    }).addEventData("event.detail.delta");
+    refresh();
+  }
+
+  /**
+   * Creates a {@code CoverageCalendar} that follows the value of the given field.
+   *
+   * @param field the {@link RecurrentScheduleField} whose value is displayed
+   */
+  public CoverageCalendar(RecurrentScheduleField field) {
+    this();
+    setValue(field.getValue());
+    field.addValueChangeListener(ev -> setValue(ev.getValue()));
+  }
+
+  /**
+   * Sets the range whose coverage is displayed.
+   * The calendar moves to the start of the range if it is not visible.
+   *
+   * @param value the {@link DateTimeRange} to display, or {@code null} to show no coverage
+   */
+  public void setValue(DateTimeRange value) {
+    this.value = value;
+    if (value != null) {
+      YearMonth start = YearMonth.from(value.getStartDate());
+      if (start.isBefore(firstMonth) || !start.isBefore(firstMonth.plusMonths(visibleMonths))) {
+        firstMonth = start;
+      }
+    }
+    refresh();
+  }
+
+  /**
+   * Gets the range whose coverage is displayed.
+   *
+   * @return the displayed {@link DateTimeRange}, or {@code null} if none is set
+   */
+  public DateTimeRange getValue() {
+    return value;
+  }
+
+  /**
+   * Sets the first visible month.
+   *
+   * @param month the month shown at the starting position
+   */
+  public void setFirstMonth(YearMonth month) {
+    firstMonth = month;
+    refresh();
+  }
+
+  /**
+   * Gets the first visible month.
+   */
+  public YearMonth getFirstMonth() {
+    return firstMonth;
+  }
+
+  /**
+   * Sets how many consecutive months are displayed at once.
+   *
+   * @param visibleMonths the number of visible months
+   */
+  public void setVisibleMonths(int visibleMonths) {
+    if (visibleMonths <= 0) {
+      throw new IllegalArgumentException("visibleMonths must be positive");
+    }
+    this.visibleMonths = visibleMonths;
+    refresh();
+  }
+
+  /**
+   * Sets which day should be placed at the starting or left-most position of each month.
+   *
+   * @param weekDay the starting or left-most day
+   */
+  public void setFirstDayOfWeek(DayOfWeek weekDay) {
+    getElement().setProperty("firstDayOfWeek", weekDay.getValue() % 7);
+  }
+
+  // Sends one bitset per visible month
+  private void refresh() {
+    JsonArray months = Json.createArray();
+    for (int i = 0; i < visibleMonths; i++) {
+      YearMonth month = firstMonth.plusMonths(i);
+      JsonObject json = Json.createObject();
+      json.put("year", month.getYear());
+      json.put("month", month.getMonthValue());
+      json.put("coverage", value != null ? value.getMonthCoverage(month) : 0);
+      months.set(i, json);
+    }
+    getElement().setPropertyJson("months", months);
+  }
+}
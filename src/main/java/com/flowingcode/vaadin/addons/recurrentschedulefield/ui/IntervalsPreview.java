@@ -0,0 +1,129 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.ui;
+
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.TimeInterval;
+import com.vaadin.flow.component.Composite;
+import com.vaadin.flow.component.HasSize;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.data.provider.DataProvider;
+import com.vaadin.flow.data.provider.Query;
+import java.time.format.TextStyle;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * A lazy preview of the {@link TimeInterval} instances generated by a {@link DateTimeRange}.
+ *
+ * <p>
+ * Only the intervals within the visible page are generated and sent to the client, and the total
+ * count is computed arithmetically. Thus, ranges spanning several years are displayed as fast as
+ * short ones.
+ * </p>
+ *
+ * @author Flowing Code
+ * @see RecurrentScheduleField
+ */
+public class IntervalsPreview extends Composite<Grid<TimeInterval>> implements HasSize {
+
+  private final Grid.Column<TimeInterval> weekDayColumn;
+  private final Grid.Column<TimeInterval> startColumn;
+  private final Grid.Column<TimeInterval> endColumn;
+  private DateTimeRange value;
+
+  /**
+   * Creates an empty {@code IntervalsPreview}.
+   */
+  public IntervalsPreview() {
+    Grid<TimeInterval> grid = getContent();
+    grid.addClassName("fc-rsf-intervals-preview");
+    // Named after the locale of the UI, if attached to one
+    weekDayColumn = grid.addColumn(i -> i.getStartDate().getDayOfWeek().getDisplayName(
+        TextStyle.FULL,
+        Optional.ofNullable(UI.getCurrent()).map(UI::getLocale).orElse(Locale.getDefault())));
+    startColumn = grid.addColumn(TimeInterval::getStartDate);
+    endColumn = grid.addColumn(TimeInterval::getEndDate);
+    grid.setItems(DataProvider.fromCallbacks(this::fetch, this::count));
+    setI18n(RecurrentScheduleField.DEFAULT_I18N);
+  }
+
+  /**
+   * Creates an {@code IntervalsPreview} that follows the value of the given field, with the headers
+   * of the field's {@link RecurrentScheduleField#getI18n() internationalization object}.
+   *
+   * @param field the {@link RecurrentScheduleField} whose value is previewed
+   */
+  public IntervalsPreview(RecurrentScheduleField field) {
+    this();
+    setI18n(field.getI18n());
+    setValue(field.getValue());
+    field.addValueChangeListener(ev -> setValue(ev.getValue()));
+  }
+
+  /**
+   * Sets the column headers from the given internationalization object.
+   * Headers not set in the given instance are left unchanged.
+   *
+   * @param i18n instance to apply
+   * @see RecurrentScheduleFieldI18n#withPreviewHeaders(String, String, String)
+   */
+  public void setI18n(RecurrentScheduleFieldI18n i18n) {
+    List<String> headers = i18n != null ? i18n.getPreviewHeaders() : null;
+    if (headers != null) {
+      weekDayColumn.setHeader(headers.get(0));
+      startColumn.setHeader(headers.get(1));
+      endColumn.setHeader(headers.get(2));
+    }
+  }
+
+  /**
+   * Sets the range whose intervals are previewed.
+   *
+   * @param value the {@link DateTimeRange} to preview, or {@code null} to show no intervals
+   */
+  public void setValue(DateTimeRange value) {
+    this.value = value;
+    getContent().getDataProvider().refreshAll();
+  }
+
+  /**
+   * Gets the range whose intervals are previewed.
+   *
+   * @return the previewed {@link DateTimeRange}, or {@code null} if none is set
+   */
+  public DateTimeRange getValue() {
+    return value;
+  }
+
+  private Stream<TimeInterval> fetch(Query<TimeInterval, Void> query) {
+    if (value == null) {
+      return Stream.empty();
+    }
+    return value.getIntervals(query.getOffset(), query.getLimit()).stream();
+  }
+
+  private int count(Query<TimeInterval, Void> query) {
+    return value != null ? (int) Math.min(value.getIntervalCount(), Integer.MAX_VALUE) : 0;
+  }
+}
@@ -23,15 +23,26 @@ import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.format.TextStyle;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 
 import com.flowingcode.vaadin.addons.dayofweekselector.DayOfWeekSelector;
 import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRangeConstraints;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.MonthlyDayRecurrence;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.MonthlyWeekdayRecurrence;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.RecurrenceRule;
 import com.flowingcode.vaadin.addons.recurrentschedulefield.api.TimeInterval;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.TimeSlots;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.WeeklyRecurrence;
 import com.flowingcode.vaadin.addons.recurrentschedulefield.ui.ChipGroup.Chip;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.ui.RecurrentScheduleFieldInstrumentation.Operation;
 import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.customfield.CustomField;
 import com.vaadin.flow.component.datepicker.DatePicker;
 import com.vaadin.flow.component.dependency.CssImport;
@@ -39,6 +50,8 @@ import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.H5;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.select.Select;
+import com.vaadin.flow.component.textfield.IntegerField;
 import com.vaadin.flow.component.timepicker.TimePicker;
 import com.vaadin.flow.data.binder.HasValidator;
 import com.vaadin.flow.data.binder.Validator;
@@ -50,7 +63,9 @@ import com.vaadin.flow.function.SerializableRunnable;
  * <h5>Features:</h5>
  * <ul>
  * <li>Date range: Select start and end dates with optional maximum span.</li>
- * <li>Days: Choose specific days of the week or predefined groups.</li>
+ * <li>Exclusions: Pick specific dates, such as holidays, on which no interval is generated.</li>
+ * <li>Days: Choose specific days of the week or predefined groups, every week or once every few weeks,
+ * or a day of every month.</li>
  * <li>Time range: Define start and end times with customizable steps and locale.</li>
  * </ul>
  *
@@ -69,13 +84,34 @@ public class RecurrentScheduleField
   private static final String SUCCESS_COLOR = "var(--lumo-primary-color)";
   private static final String ERROR_COLOR = "var(--lumo-error-color)";
 
+  // Shared by every instance, and by IntervalsPreview, since RecurrentScheduleFieldI18n is immutable
+  static final RecurrentScheduleFieldI18n DEFAULT_I18N = new RecurrentScheduleFieldI18n()
+      .withDatesTitle("Select dates range")
+      .withDatesPlaceholder("Start date", "End date")
+      .withExclusionsPlaceholder("Exclude date")
+      .withDaysTitle("Select days")
+      .withDayInitials(List.of("S","M","T","W","T","F","S"))
+      .withDaysChipsText("Weekend", "Weekdays", "All")
+      .withRecurrenceText("Every N weeks", "Monthly on day", "Monthly on the")
+      .withOrdinalsText(List.of("First", "Second", "Third", "Fourth", "Fifth", "Last"))
+      .withTimesTitle("Select times range")
+      .withTimeChipsText("Morning", "Afternoon", "All")
+      .withTimesPlaceholder("Start time", "End time")
+      .withPreviewHeaders("Week day", "Start", "End");
+
   // Mandatory attributes for validation
   private RecurrentScheduleFieldValidator validator;
   private DatePicker startDatePicker;
   private DatePicker endDatePicker;
+  private DatePicker exclusionPicker;
   private TimePicker startTimePicker;
   private TimePicker endTimePicker;
   private DayOfWeekSelector weekDaySelector;
+  private Select<Frequency> frequencySelect;
+  private IntegerField weekIntervalField;
+  private IntegerField dayOfMonthField;
+  private Select<Integer> ordinalSelect;
+  private Select<DayOfWeek> monthWeekDaySelect;
 
   // UI-only validation attributes (should change after validation check)
   private SpanLine daysDivider;
@@ -92,16 +128,30 @@ public class RecurrentScheduleField
   private Component daysSelector;
   private Component timeSelector;
   private Div verticalLine;
+  private HorizontalLayout exclusionsLayout;
+  private final TreeSet<LocalDate> excludedDates = new TreeSet<>();
+  // Copy of the last presented value, whose daily windows are kept while its times are not edited
+  private DateTimeRange presentedValue;
   private ChipGroup daysChipGroup;
   private Chip weekdaysChip;
   private Chip weekendChip;
   private Chip allDaysChip;
+  private boolean daysChipsVisible = true;
   private ChipGroup timeChipGroup;
   private Chip morningChip;
   private Chip afterNoonChip;
   private Chip allTimeChip;
-  private List<String> daysInitials;
-  private Integer maxDaysSpan = null;
+  private DateTimeRangeConstraints constraints = DateTimeRangeConstraints.NONE;
+  private RecurrentScheduleFieldI18n i18n;
+  private RecurrentScheduleFieldInstrumentation instrumentation;
+  // Nesting level of runBatched, and whether an update was requested meanwhile
+  private int batchDepth;
+  private boolean updatePending;
+
+  // Kinds of RecurrenceRule that can be edited
+  enum Frequency {
+    WEEKLY, MONTHLY_BY_DAY, MONTHLY_BY_WEEKDAY
+  }
 
   /**
    * Creates a new {@code RecurrentScheduleField} with the default error message.
@@ -118,7 +168,7 @@ public class RecurrentScheduleField
   public RecurrentScheduleField(String errorMessage) {
     super();
     setUI();
-    setDefaultI18n();
+    setI18n(DEFAULT_I18N);
     setErrorMessage(errorMessage);
   }
 
@@ -131,7 +181,7 @@ public class RecurrentScheduleField
   public RecurrentScheduleField(DateTimeRange defaultValue, String errorMessage) {
     super(defaultValue);
     setUI();
-    setDefaultI18n();
+    setI18n(DEFAULT_I18N);
     setErrorMessage(errorMessage);
     setPresentationValue(defaultValue);
   }
@@ -174,6 +224,7 @@ public class RecurrentScheduleField
   }
 
   void refreshUI(boolean datesOk, boolean daysOk, boolean timesOk) {
+    Timer timer = startTimer();
     daysDivider.setText(formatDaysSpan(startDatePicker.getValue(), endDatePicker.getValue()));
     timeDivider.setText(formatTimeSpan(startTimePicker.getValue(), endTimePicker.getValue()));
 
@@ -186,6 +237,7 @@ public class RecurrentScheduleField
     startTimePicker.setInvalid(startTimePicker.getValue() != null && endTimePicker.getValue() != null && !timesOk);
     endTimePicker.setInvalid(startTimePicker.getValue() != null && endTimePicker.getValue() != null && !timesOk);
     timeCircle.setColor(timesOk ? SUCCESS_COLOR : ERROR_COLOR);
+    timer.stop(Operation.REFRESH_UI);
   }
 
   private Component getDateSelectors() {
@@ -204,9 +256,11 @@ public class RecurrentScheduleField
     startDatePicker = new DatePicker();
     startDatePicker.setClearButtonVisible(true);
     startDatePicker.addValueChangeListener(it -> {
-      if (maxDaysSpan != null && maxDaysSpan > 0) {
+      exclusionPicker.setMin(it.getValue());
+      int maxDaysSpan = constraints.getMaxDaysSpan();
+      if (maxDaysSpan > 0) {
         LocalDate current = it.getValue();
-        LocalDate maxDate = current != null ? current.plusDays(maxDaysSpan) : null;
+        LocalDate maxDate = current != null ? current.plusDays(maxDaysSpan) : constraints.getMaxDate();
         endDatePicker.setMax(maxDate);
       }
     });
@@ -214,9 +268,11 @@ public class RecurrentScheduleField
     endDatePicker = new DatePicker();
     endDatePicker.setClearButtonVisible(true);
     endDatePicker.addValueChangeListener(it -> {
-      if (maxDaysSpan != null && maxDaysSpan > 0) {
+      exclusionPicker.setMax(it.getValue() != null ? it.getValue().minusDays(1) : null);
+      int maxDaysSpan = constraints.getMaxDaysSpan();
+      if (maxDaysSpan > 0) {
         LocalDate current = it.getValue();
-        LocalDate minDate = current != null ? current.minusDays(maxDaysSpan) : null;
+        LocalDate minDate = current != null ? current.minusDays(maxDaysSpan) : constraints.getMinDate();
         startDatePicker.setMin(minDate);
       }
     });
@@ -227,11 +283,42 @@ public class RecurrentScheduleField
     selectorLayout.addClassName("fc-date-selector-selector-layout");
     selectorLayout.add(startDatePicker, daysDivider, endDatePicker);
 
-    layout.add(headerWrapper, selectorLayout);
+    exclusionPicker = new DatePicker();
+    exclusionPicker.setClearButtonVisible(true);
+    exclusionPicker.addClassName("fc-date-selector-exclusion-picker");
+    exclusionPicker.addValueChangeListener(it -> {
+      if (it.getValue() != null) {
+        excludedDates.add(it.getValue());
+        exclusionPicker.clear();
+        refreshExclusions();
+        updateValue();
+      }
+    });
+
+    exclusionsLayout = new HorizontalLayout();
+    exclusionsLayout.addClassName("fc-date-selector-exclusions-layout");
+
+    layout.add(headerWrapper, selectorLayout, exclusionPicker, exclusionsLayout);
 
     return layout;
   }
 
+  // Shows a chip for each excluded date, which removes the date when pressed
+  private void refreshExclusions() {
+    exclusionsLayout.removeAll();
+    for (LocalDate date : excludedDates) {
+      Chip chip = new Chip();
+      chip.setText(date.toString());
+      chip.setReadOnly(exclusionPicker.isReadOnly());
+      chip.onPress(checked -> {
+        excludedDates.remove(date);
+        refreshExclusions();
+        updateValue();
+      });
+      exclusionsLayout.add(chip);
+    }
+  }
+
   private Component getDaysSelector() {
     VerticalLayout layout = new VerticalLayout();
     layout.addClassName("fc-days-selector-layout");
@@ -263,15 +350,15 @@ public class RecurrentScheduleField
     weekDaySelector.setFirstDayOfWeek(DayOfWeek.SUNDAY);
     weekDaySelector.addClassName("fc-days-selector-day-selector");
 
-    weekendChip.onPress(checked -> {
+    weekendChip.onPress(checked -> runBatched(() -> {
       if (checked) {
         weekDaySelector.setValue(DayOfWeek.SUNDAY, DayOfWeek.SATURDAY);
         updateValue();
       }
       weekDaySelector.setReadOnly(checked);
-    });
+    }));
 
-    weekdaysChip.onPress(checked -> {
+    weekdaysChip.onPress(checked -> runBatched(() -> {
       if (checked) {
         weekDaySelector.setValue(
             DayOfWeek.MONDAY,
@@ -283,9 +370,9 @@ public class RecurrentScheduleField
         updateValue();
       }
       weekDaySelector.setReadOnly(checked);
-    });
+    }));
 
-    allDaysChip.onPress(checked -> {
+    allDaysChip.onPress(checked -> runBatched(() -> {
       if (checked) {
         weekDaySelector.setValue(
             DayOfWeek.MONDAY,
@@ -299,13 +386,109 @@ public class RecurrentScheduleField
         updateValue();
       }
       weekDaySelector.setReadOnly(checked);
+    }));
+
+    frequencySelect = new Select<>();
+    frequencySelect.setItems(Frequency.values());
+    frequencySelect.setValue(Frequency.WEEKLY);
+    frequencySelect.addValueChangeListener(ev -> {
+      refreshFrequency();
+      updateValue();
     });
 
-    layout.add(headerLayout, weekDaySelector);
+    weekIntervalField = new IntegerField();
+    weekIntervalField.setMin(1);
+    weekIntervalField.setValue(1);
+    weekIntervalField.setStepButtonsVisible(true);
+    weekIntervalField.addValueChangeListener(ev -> updateValue());
+
+    dayOfMonthField = new IntegerField();
+    dayOfMonthField.setMin(1);
+    dayOfMonthField.setMax(31);
+    dayOfMonthField.setStepButtonsVisible(true);
+    dayOfMonthField.addValueChangeListener(ev -> updateValue());
+
+    ordinalSelect = new Select<>();
+    ordinalSelect.setItems(1, 2, 3, 4, 5, MonthlyWeekdayRecurrence.LAST);
+    ordinalSelect.addValueChangeListener(ev -> updateValue());
+
+    monthWeekDaySelect = new Select<>();
+    monthWeekDaySelect.setItems(DayOfWeek.values());
+    // Named after the locale of the UI, if attached to one
+    monthWeekDaySelect.setItemLabelGenerator(day -> day.getDisplayName(TextStyle.FULL,
+        Optional.ofNullable(UI.getCurrent()).map(UI::getLocale).orElse(Locale.getDefault())));
+    monthWeekDaySelect.addValueChangeListener(ev -> updateValue());
+
+    HorizontalLayout frequencyLayout = new HorizontalLayout();
+    frequencyLayout.addClassName("fc-days-selector-frequency-layout");
+    frequencyLayout.add(frequencySelect, weekIntervalField, dayOfMonthField, ordinalSelect,
+        monthWeekDaySelect);
+
+    layout.add(headerLayout, frequencyLayout, weekDaySelector);
+    refreshFrequency();
 
     return layout;
   }
 
+  // Shows the controls of the selected kind of recurrence
+  private void refreshFrequency() {
+    Frequency frequency = frequencySelect.getValue();
+    boolean weekly = frequency == Frequency.WEEKLY;
+    weekIntervalField.setVisible(weekly);
+    weekDaySelector.setVisible(weekly);
+    daysChipGroup.setVisible(weekly && daysChipsVisible);
+    dayOfMonthField.setVisible(frequency == Frequency.MONTHLY_BY_DAY);
+    ordinalSelect.setVisible(frequency == Frequency.MONTHLY_BY_WEEKDAY);
+    monthWeekDaySelect.setVisible(frequency == Frequency.MONTHLY_BY_WEEKDAY);
+  }
+
+  // Builds the rule defined by the recurrence controls, or null if they are incomplete
+  RecurrenceRule getSelectedRule() {
+    switch (frequencySelect.getValue()) {
+      case MONTHLY_BY_DAY:
+        Integer dayOfMonth = dayOfMonthField.getValue();
+        return dayOfMonth != null && dayOfMonth >= 1 && dayOfMonth <= 31
+            ? new MonthlyDayRecurrence(dayOfMonth) : null;
+      case MONTHLY_BY_WEEKDAY:
+        return ordinalSelect.getValue() != null && monthWeekDaySelect.getValue() != null
+            ? new MonthlyWeekdayRecurrence(ordinalSelect.getValue(), monthWeekDaySelect.getValue())
+            : null;
+      default:
+        Integer interval = weekIntervalField.getValue();
+        return !weekDaySelector.getValue().isEmpty() && interval != null && interval >= 1
+            ? new WeeklyRecurrence(weekDaySelector.getValue(), interval) : null;
+    }
+  }
+
+  // Days of the week on which the selected rule occurs within the selected dates, or may occur if
+  // they are incomplete. Empty if the rule is incomplete
+  Set<DayOfWeek> getSelectedWeekDays() {
+    RecurrenceRule rule = getSelectedRule();
+    if (rule == null) {
+      return Set.of();
+    }
+    LocalDate startDate = startDatePicker.getValue();
+    LocalDate endDate = endDatePicker.getValue();
+    return startDate != null && endDate != null && startDate.isBefore(endDate)
+        ? rule.getWeekDays(startDate, endDate) : rule.getWeekDays();
+  }
+
+  // Fills the recurrence controls from the given rule
+  private void showRule(RecurrenceRule rule) {
+    if (rule instanceof MonthlyDayRecurrence monthly) {
+      frequencySelect.setValue(Frequency.MONTHLY_BY_DAY);
+      dayOfMonthField.setValue(monthly.getDayOfMonth());
+    } else if (rule instanceof MonthlyWeekdayRecurrence monthly) {
+      frequencySelect.setValue(Frequency.MONTHLY_BY_WEEKDAY);
+      ordinalSelect.setValue(monthly.getOrdinal());
+      monthWeekDaySelect.setValue(monthly.getWeekDay());
+    } else {
+      frequencySelect.setValue(Frequency.WEEKLY);
+      weekIntervalField.setValue(rule instanceof WeeklyRecurrence weekly ? weekly.getInterval() : 1);
+      weekDaySelector.setValue(rule.getWeekDays());
+    }
+  }
+
   private Component getTimeSelectors() {
     VerticalLayout layout = new VerticalLayout();
     layout.addClassName("fc-time-selector-layout");
@@ -374,41 +557,115 @@ public class RecurrentScheduleField
 
   @Override
   protected DateTimeRange generateModelValue() {
+    Timer timer = startTimer();
     boolean isValid = validator.isValid();
     setInvalid(!isValid);
 
+    DateTimeRange value = null;
     if(isValid) {
-      return new DateTimeRange(
+      RecurrenceRule rule = getSelectedRule();
+      value = new DateTimeRange(
           startDatePicker.getValue(),
           endDatePicker.getValue(),
           startTimePicker.getValue(),
           endTimePicker.getValue(),
-          weekDaySelector.getValue()
+          rule.getWeekDays()
       );
+      value.setRecurrenceRule(rule);
+      value.setExcludedDates(excludedDates);
+      keepPresentedWindows(value);
+    }
+    timer.stop(Operation.GENERATE_MODEL_VALUE);
+    return value;
+  }
+
+  // The pickers only show the earliest start and the latest end, so several or per-day windows are
+  // kept unless those times change. Days that were not included get the times of the pickers
+  private void keepPresentedWindows(DateTimeRange value) {
+    if (presentedValue == null
+        || !presentedValue.getStartTime().equals(value.getStartTime())
+        || !presentedValue.getEndTime().equals(value.getEndTime())) {
+      return;
+    }
+    for (DayOfWeek day : presentedValue.getWeekDays()) {
+      value.setDailyWindows(day, presentedValue.getDailyWindows(day).toArray(LocalTime[]::new));
+    }
+  }
+
+  @Override
+  public void setValue(DateTimeRange value) {
+    Timer timer = startTimer();
+    DateTimeRange oldValue = getValue();
+    super.setValue(value);
+    if (oldValue != getValue()) {
+      timer.stop(Operation.VALUE_CHANGE);
+    }
+  }
+
+  @Override
+  protected void setModelValue(DateTimeRange newModelValue, boolean fromClient) {
+    Timer timer = startTimer();
+    DateTimeRange oldValue = getValue();
+    super.setModelValue(newModelValue, fromClient);
+    if (oldValue != getValue()) {
+      timer.stop(Operation.VALUE_CHANGE);
     }
-    else return null;
   }
 
   @Override
   protected void setPresentationValue(DateTimeRange dateTimeRange) {
-    if (dateTimeRange == null) {
-      startDatePicker.clear();
-      endDatePicker.clear();
-      startTimePicker.clear();
-      endTimePicker.clear();
-      weekDaySelector.clear();
-      daysDivider.clearText();
-      timeDivider.clearText();
+    // The model value is already known, so sub-field listeners must not regenerate it
+    runBatched(() -> {
+      if (dateTimeRange == null) {
+        startDatePicker.clear();
+        endDatePicker.clear();
+        startTimePicker.clear();
+        endTimePicker.clear();
+        weekDaySelector.clear();
+        frequencySelect.setValue(Frequency.WEEKLY);
+        weekIntervalField.setValue(1);
+        dayOfMonthField.clear();
+        ordinalSelect.clear();
+        monthWeekDaySelect.clear();
+        excludedDates.clear();
+        presentedValue = null;
+      }
+      else {
+        startDatePicker.setValue(dateTimeRange.getStartDate());
+        endDatePicker.setValue(dateTimeRange.getEndDate());
+        startTimePicker.setValue(dateTimeRange.getStartTime());
+        endTimePicker.setValue(dateTimeRange.getEndTime());
+        showRule(dateTimeRange.getRecurrenceRule());
+        excludedDates.clear();
+        excludedDates.addAll(dateTimeRange.getExcludedDates());
+        presentedValue = new DateTimeRange(dateTimeRange);
+      }
+      refreshExclusions();
+      updatePending = false;
+    });
+    setInvalid(!validator.isValid());
+  }
+
+  @Override
+  protected void updateValue() {
+    if (batchDepth > 0) {
+      updatePending = true;
+    } else {
+      super.updateValue();
+    }
+  }
+
+  // Runs the action deferring value updates, then performs at most one update
+  private void runBatched(SerializableRunnable action) {
+    batchDepth++;
+    try {
+      action.run();
+    } finally {
+      batchDepth--;
     }
-    else {
-      startDatePicker.setValue(dateTimeRange.getStartDate());
-      endDatePicker.setValue(dateTimeRange.getEndDate());
-      startTimePicker.setValue(dateTimeRange.getStartTime());
-      endTimePicker.setValue(dateTimeRange.getEndTime());
-      weekDaySelector.setValue(dateTimeRange.getWeekDays());
-
-      daysDivider.setText(formatDaysSpan(dateTimeRange.getStartDate(), dateTimeRange.getEndDate()));
-      timeDivider.setText(formatTimeSpan(dateTimeRange.getStartTime(), dateTimeRange.getEndTime()));
+    if (batchDepth == 0 && updatePending) {
+      updatePending = false;
+      super.updateValue();
     }
   }
 
@@ -451,7 +708,7 @@ public class RecurrentScheduleField
    * @param max the maximum distance measured in days
    */
   public void setMaxDaysSpan(int max) {
-    maxDaysSpan = max;
+    constraints = constraints.withMaxDaysSpan(max);
   }
 
   /**
@@ -460,6 +717,7 @@ public class RecurrentScheduleField
    * @param date the minimum date that can be selected
    */
   public void setMinDate(LocalDate date) {
+    constraints = constraints.withMinDate(date);
     startDatePicker.setMin(date);
     endDatePicker.setMin(date);
   }
@@ -470,6 +728,7 @@ public class RecurrentScheduleField
    * @param date the maximum date that can be selected
    */
   public void setMaxDate(LocalDate date) {
+    constraints = constraints.withMaxDate(date);
     endDatePicker.setMax(date);
     startDatePicker.setMax(date);
   }
@@ -480,6 +739,7 @@ public class RecurrentScheduleField
    * @param time the minimum time that can be selected
    */
   public void setMinTime(LocalTime time) {
+    constraints = constraints.withMinTime(time);
     startTimePicker.setMin(time);
     endTimePicker.setMin(time);
     // If afternoon chip is not visible, keep only the 'all time' chip
@@ -492,12 +752,32 @@ public class RecurrentScheduleField
    * @param time the maximum time that can be selected
    */
   public void setMaxTime(LocalTime time) {
+    constraints = constraints.withMaxTime(time);
     startTimePicker.setMax(time);
     endTimePicker.setMax(time);
     // If morning chip is not visible, keep only the 'all time' chip
     afterNoonChip.setVisible((time == null || time.isAfter(LocalTime.NOON)) && morningChip.isVisible());
   }
 
+  /**
+   * Sets which days of the week may be selected. Selecting any other day makes the value invalid.
+   *
+   * @param weekDays the days that may be selected
+   */
+  public void setAllowedWeekDays(DayOfWeek... weekDays) {
+    constraints = constraints.withAllowedWeekDays(Set.of(weekDays));
+  }
+
+  /**
+   * Gets the constraints enforced by this component.
+   * The returned object can be used to validate schedules with the same rules, without any UI.
+   *
+   * @return the current {@link DateTimeRangeConstraints}
+   */
+  public DateTimeRangeConstraints getConstraints() {
+    return constraints;
+  }
+
   /**
    * Sets the selected week days.
    *
@@ -508,6 +788,20 @@ public class RecurrentScheduleField
     this.weekDaySelector.setValue(Set.of(weekDaySelector));
   }
 
+  /**
+   * Sets the rule that defines on which dates intervals are generated, selecting the matching kind of
+   * recurrence.
+   *
+   * @param rule a {@link WeeklyRecurrence}, {@link MonthlyDayRecurrence} or {@link MonthlyWeekdayRecurrence}
+   * @see DateTimeRange#setRecurrenceRule(RecurrenceRule)
+   */
+  public void setRecurrenceRule(RecurrenceRule rule) {
+    runBatched(() -> {
+      showRule(rule);
+      updateValue();
+    });
+  }
+
   /**
    * Sets which day should be placed at the starting or left-most position.
    *
@@ -525,6 +819,8 @@ public class RecurrentScheduleField
   public void setDatesReadOnly(boolean readOnly) {
     startDatePicker.setReadOnly(readOnly);
     endDatePicker.setReadOnly(readOnly);
+    exclusionPicker.setReadOnly(readOnly);
+    refreshExclusions();
   }
 
   /**
@@ -536,6 +832,29 @@ public class RecurrentScheduleField
     dateSelector.setVisible(visible);
   }
 
+  /**
+   * Changes the excluded dates picker's visibility state.
+   *
+   * @param visible whether the excluded dates picker and the excluded dates should be visible
+   */
+  public void setExclusionsVisible(boolean visible) {
+    exclusionPicker.setVisible(visible);
+    exclusionsLayout.setVisible(visible);
+  }
+
+  /**
+   * Sets the dates on which no interval is generated.
+   *
+   * @param dates the dates to exclude
+   * @see DateTimeRange#setExcludedDates(java.util.Collection)
+   */
+  public void setExcludedDates(LocalDate... dates) {
+    excludedDates.clear();
+    excludedDates.addAll(List.of(dates));
+    refreshExclusions();
+    updateValue();
+  }
+
   /**
    * Changes the days picker's read-only state.
    *
@@ -544,6 +863,11 @@ public class RecurrentScheduleField
   public void setDaysReadOnly(boolean readOnly) {
     weekDaySelector.setReadOnly(readOnly);
     daysChipGroup.setReadOnly(readOnly);
+    frequencySelect.setReadOnly(readOnly);
+    weekIntervalField.setReadOnly(readOnly);
+    dayOfMonthField.setReadOnly(readOnly);
+    ordinalSelect.setReadOnly(readOnly);
+    monthWeekDaySelect.setReadOnly(readOnly);
   }
 
   /**
@@ -561,7 +885,8 @@ public class RecurrentScheduleField
    * @param visible whether the days chips should be visible
    */
   public void setDaysChipsVisible(boolean visible) {
-    daysChipGroup.setVisible(visible);
+    daysChipsVisible = visible;
+    daysChipGroup.setVisible(visible && frequencySelect.getValue() == Frequency.WEEKLY);
   }
 
   /**
@@ -615,6 +940,16 @@ public class RecurrentScheduleField
     endTimePicker.setStep(step);
   }
 
+  /**
+   * Gets the minimum time gap for the time selection lists.
+   *
+   * @return the time difference between adjacent lists' items, also suitable as the length of
+   * {@link TimeSlots}
+   */
+  public Duration getTimeStep() {
+    return startTimePicker.getStep();
+  }
+
   /**
    * Sets the time locale for the time selection lists.
    *
@@ -625,33 +960,131 @@ public class RecurrentScheduleField
     endTimePicker.setLocale(locale);
   }
 
+  /**
+   * Sets the instrumentation that receives the server-side work performed by this component.
+   *
+   * @param instrumentation the instrumentation to notify, or {@code null} to disable measurements
+   * @see RecurrentScheduleFieldMetrics
+   */
+  public void setInstrumentation(RecurrentScheduleFieldInstrumentation instrumentation) {
+    this.instrumentation = instrumentation;
+  }
+
+  /**
+   * Gets the instrumentation that receives the server-side work performed by this component.
+   *
+   * @return the current instrumentation, or {@code null} if measurements are disabled
+   */
+  public RecurrentScheduleFieldInstrumentation getInstrumentation() {
+    return instrumentation;
+  }
+
+  // Starts measuring an operation, if instrumentation is enabled
+  Timer startTimer() {
+    return instrumentation != null ? new Timer(this, instrumentation) : Timer.DISABLED;
+  }
+
+  // A measurement in progress, recorded to the instrumentation that was set when it started
+  static final class Timer {
+
+    // Shared by every measurement taken while instrumentation is disabled
+    private static final Timer DISABLED = new Timer(null, null);
+
+    private final RecurrentScheduleField field;
+    private final RecurrentScheduleFieldInstrumentation instrumentation;
+    private final long start;
+
+    private Timer(RecurrentScheduleField field,
+        RecurrentScheduleFieldInstrumentation instrumentation) {
+      this.field = field;
+      this.instrumentation = instrumentation;
+      this.start = instrumentation != null ? System.nanoTime() : 0;
+    }
+
+    void stop(Operation operation) {
+      if (instrumentation != null) {
+        instrumentation.record(field, operation, System.nanoTime() - start);
+      }
+    }
+  }
+
   /**
    * Sets the custom text properties for internationalization purposes.
+   * Texts not set in the given instance are left unchanged.
    *
-   * @param i18n instance to attach
+   * @param i18n instance to apply
    * @see RecurrentScheduleFieldI18n
    */
   public void setI18n(RecurrentScheduleFieldI18n i18n) {
-    if(i18n != null) {
-      i18n.attachComponent(this);
-      for (SerializableRunnable action : i18n.getPendingActions()) {
-        if (action != null)
-          action.run();
-      }
+    if (i18n == null) {
+      return;
+    }
+    this.i18n = i18n;
+
+    setText(datesTitle, i18n.getDatesTitle());
+    setText(daysTitle, i18n.getDaysTitle());
+    setText(timesTitle, i18n.getTimesTitle());
+
+    List<String> datesPlaceholder = i18n.getDatesPlaceholder();
+    if (datesPlaceholder != null) {
+      startDatePicker.setPlaceholder(datesPlaceholder.get(0));
+      endDatePicker.setPlaceholder(datesPlaceholder.get(1));
+    }
+
+    List<String> timesPlaceholder = i18n.getTimesPlaceholder();
+    if (timesPlaceholder != null) {
+      startTimePicker.setPlaceholder(timesPlaceholder.get(0));
+      endTimePicker.setPlaceholder(timesPlaceholder.get(1));
+    }
+
+    if (i18n.getExclusionsPlaceholder() != null) {
+      exclusionPicker.setPlaceholder(i18n.getExclusionsPlaceholder());
+    }
+
+    if (i18n.getDayInitials() != null) {
+      weekDaySelector.setWeekDaysShort(i18n.getDayInitials());
+    }
+
+    List<String> daysChipsText = i18n.getDaysChipsText();
+    if (daysChipsText != null) {
+      weekdaysChip.setText(daysChipsText.get(0));
+      weekendChip.setText(daysChipsText.get(1));
+      allDaysChip.setText(daysChipsText.get(2));
+    }
+
+    List<String> recurrenceText = i18n.getRecurrenceText();
+    if (recurrenceText != null) {
+      frequencySelect.setItemLabelGenerator(frequency -> recurrenceText.get(frequency.ordinal()));
     }
+
+    List<String> ordinalsText = i18n.getOrdinalsText();
+    if (ordinalsText != null) {
+      ordinalSelect.setItemLabelGenerator(ordinal ->
+          ordinalsText.get(ordinal == MonthlyWeekdayRecurrence.LAST ? 5 : ordinal - 1));
+    }
+
+    List<String> timeChipsText = i18n.getTimeChipsText();
+    if (timeChipsText != null) {
+      morningChip.setText(timeChipsText.get(0));
+      afterNoonChip.setText(timeChipsText.get(1));
+      allTimeChip.setText(timeChipsText.get(2));
+    }
+  }
+
+  /**
+   * Gets the internationalization object last applied to this component.
+   *
+   * @return the last {@link RecurrentScheduleFieldI18n} passed to {@link #setI18n(RecurrentScheduleFieldI18n)},
+   * or the default one if none was set
+   */
+  public RecurrentScheduleFieldI18n getI18n() {
+    return i18n;
   }
 
-  private void setDefaultI18n() {
-    RecurrentScheduleFieldI18n defaultI18n = new RecurrentScheduleFieldI18n()
-        .setDatesTitle("Select dates range")
-        .setDatesPlaceholder("Start date", "End date")
-        .setDaysTitle("Select days")
-        .setDayInitials(List.of("S","M","T","W","T","F","S"))
-        .setDaysChipsText("Weekend", "Weekdays", "All")
-        .setTimesTitle("Select times range")
-        .setTimeChipsText("Morning", "Afternoon", "All")
-        .setTimesPlaceholder("Start time", "End time");
-    setI18n(defaultI18n);
+  private static void setText(H5 title, String text) {
+    if (text != null) {
+      title.setText(text);
+    }
   }
 
   // Fit start and end times within current time range constraints
@@ -701,6 +1134,10 @@ public class RecurrentScheduleField
     return endDatePicker;
   }
 
+  DatePicker getExclusionPicker() {
+    return exclusionPicker;
+  }
+
   TimePicker getStartTimePicker() {
     return startTimePicker;
   }
@@ -748,12 +1185,4 @@ public class RecurrentScheduleField
   Chip getAllTimeChip() {
     return allTimeChip;
   }
-
-  List<String> getDaysInitials() {
-    return daysInitials;
-  }
-
-  void setDaysInitials(List<String> daysInitials) {
-    this.daysInitials = daysInitials;
-  }
 }
@@ -19,13 +19,9 @@
  */
 package com.flowingcode.vaadin.addons.recurrentschedulefield.ui;
 
-import com.vaadin.flow.function.SerializableRunnable;
 import java.io.Serializable;
 import java.time.DayOfWeek;
-import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Provides internationalization support for {@link RecurrentScheduleField}.
@@ -33,239 +29,444 @@ import java.util.Map;
  * <h5>Features:</h5>
  * <ul>
  * <li>Set and retrieve titles for date, day, and time pickers.</li>
- * <li>Configure placeholders for date and time pickers.</li>
+ * <li>Configure placeholders for date, excluded date and time pickers.</li>
  * <li>Customize day initials and filter chip texts for days and times.</li>
+ * <li>Name the kinds of recurrence and the occurrences of a day within a month.</li>
+ * <li>Name the columns of {@link IntervalsPreview}.</li>
  * </ul>
  *
+ * <p>
+ * Instances are immutable: every {@code withXxx} method returns a new
+ * {@code RecurrentScheduleFieldI18n} and leaves the original untouched, so a single instance can be safely shared among any number of
+ * {@code RecurrentScheduleField} components. Texts that have not been set are {@code null} and are
+ * left unchanged when the object is applied to a component. Texts given in groups, such as the two
+ * placeholders of a pair of pickers, are kept in unmodifiable lists and must not be {@code null}.
+ * </p>
+ *
  * @author Flowing Code
- * @see RecurrentScheduleField
+ * @see RecurrentScheduleField#setI18n(RecurrentScheduleFieldI18n)
  */
-public class RecurrentScheduleFieldI18n implements Serializable {
-
-  private RecurrentScheduleField component;
-  private final Map<String, SerializableRunnable> actions = new HashMap<>();
+public final class RecurrentScheduleFieldI18n implements Serializable {
 
-  void attachComponent(RecurrentScheduleField component) {
-    this.component = component;
-  }
+  private final String datesTitle;
+  private final String daysTitle;
+  private final String timesTitle;
+  private final List<String> datesPlaceholder;
+  private final List<String> timesPlaceholder;
+  private final List<String> dayInitials;
+  private final List<String> daysChipsText;
+  private final List<String> timeChipsText;
+  private final String exclusionsPlaceholder;
+  private final List<String> recurrenceText;
+  private final List<String> ordinalsText;
+  private final List<String> previewHeaders;
 
-  Collection<SerializableRunnable> getPendingActions() {
-    return actions.values();
+  /**
+   * Creates a new {@code RecurrentScheduleFieldI18n} with no texts set.
+   */
+  public RecurrentScheduleFieldI18n() {
+    this(null, null, null, null, null, null, null, null, null, null, null, null);
   }
 
-  private void addAction(SerializableRunnable action, String function) {
-    actions.put(function, action);
-    if (component != null) {
-      action.run();
-    }
+  private RecurrentScheduleFieldI18n(String datesTitle, String daysTitle, String timesTitle,
+      List<String> datesPlaceholder, List<String> timesPlaceholder, List<String> dayInitials,
+      List<String> daysChipsText, List<String> timeChipsText, String exclusionsPlaceholder,
+      List<String> recurrenceText, List<String> ordinalsText, List<String> previewHeaders) {
+    this.datesTitle = datesTitle;
+    this.daysTitle = daysTitle;
+    this.timesTitle = timesTitle;
+    this.datesPlaceholder = datesPlaceholder;
+    this.timesPlaceholder = timesPlaceholder;
+    this.dayInitials = dayInitials;
+    this.daysChipsText = daysChipsText;
+    this.timeChipsText = timeChipsText;
+    this.exclusionsPlaceholder = exclusionsPlaceholder;
+    this.recurrenceText = recurrenceText;
+    this.ordinalsText = ordinalsText;
+    this.previewHeaders = previewHeaders;
   }
 
   /**
-   * Sets the date pickers' title.
+   * Returns a copy with the given date pickers' title.
    *
    * @param text   title for the pickers
+   * @return a new instance with the given title
    */
-  public RecurrentScheduleFieldI18n setDatesTitle(String text) {
-    addAction(() -> component.getDatesTitle().setText(text), "setDatesTitle");
-    return this;
+  public RecurrentScheduleFieldI18n withDatesTitle(String text) {
+    return new RecurrentScheduleFieldI18n(text, daysTitle, timesTitle, datesPlaceholder,
+        timesPlaceholder, dayInitials, daysChipsText, timeChipsText, exclusionsPlaceholder,
+        recurrenceText, ordinalsText, previewHeaders);
   }
 
   /**
-   * Gets current date pickers' title.
+   * Gets the date pickers' title.
    *
-   * @return date pickers' title or {@code null} if this object is not attached to a {@code RecurrentScheduleField} instance
+   * @return date pickers' title or {@code null} if it has not been set
    */
   public String getDatesTitle() {
-    return component != null ? component.getDatesTitle().getText() : null;
+    return datesTitle;
   }
 
   /**
-   * Sets the days picker's title.
+   * Returns a copy with the given days picker's title.
    *
    * @param text   title for the days picker
+   * @return a new instance with the given title
    */
-  public RecurrentScheduleFieldI18n setDaysTitle(String text) {
-    addAction(() -> component.getDaysTitle().setText(text), "setDaysTitle");
-    return this;
+  public RecurrentScheduleFieldI18n withDaysTitle(String text) {
+    return new RecurrentScheduleFieldI18n(datesTitle, text, timesTitle, datesPlaceholder,
+        timesPlaceholder, dayInitials, daysChipsText, timeChipsText, exclusionsPlaceholder,
+        recurrenceText, ordinalsText, previewHeaders);
   }
 
   /**
-   * Gets current days picker's title.
+   * Gets the days picker's title.
    *
-   * @return days picker's title or {@code null} if this object is not attached to a {@code RecurrentScheduleField} instance
+   * @return days picker's title or {@code null} if it has not been set
    */
   public String getDaysTitle() {
-    return component != null ? component.getDaysTitle().getText() : null;
+    return daysTitle;
   }
 
   /**
-   * Sets the time pickers' title.
+   * Returns a copy with the given time pickers' title.
    *
    * @param text   title for the pickers
+   * @return a new instance with the given title
    */
-  public RecurrentScheduleFieldI18n setTimesTitle(String text) {
-    addAction(() -> component.getTimesTitle().setText(text), "setTimesTitle");
-    return this;
+  public RecurrentScheduleFieldI18n withTimesTitle(String text) {
+    return new RecurrentScheduleFieldI18n(datesTitle, daysTitle, text, datesPlaceholder,
+        timesPlaceholder, dayInitials, daysChipsText, timeChipsText, exclusionsPlaceholder,
+        recurrenceText, ordinalsText, previewHeaders);
   }
 
   /**
-   * Gets current time pickers' title.
+   * Gets the time pickers' title.
    *
-   * @return time pickers' title or {@code null} if this object is not attached to a {@code RecurrentScheduleField} instance
+   * @return time pickers' title or {@code null} if it has not been set
    */
   public String getTimesTitle() {
-    return component != null ? component.getTimesTitle().getText() : null;
+    return timesTitle;
   }
 
   /**
-   * Sets the time pickers' placeholder.
+   * Returns a copy with the given time pickers' placeholder.
    *
    * @param startTime   placeholder for the start-time picker
    * @param endTime     placeholder for the end-time picker
+   * @return a new instance with the given placeholders
    */
-  public RecurrentScheduleFieldI18n setTimesPlaceholder(String startTime, String endTime) {
-    addAction(() -> {
-      component.getStartTimePicker().setPlaceholder(startTime);
-      component.getEndTimePicker().setPlaceholder(endTime);
-    }, "setTimesPlaceholder");
-    return this;
+  public RecurrentScheduleFieldI18n withTimesPlaceholder(String startTime, String endTime) {
+    return new RecurrentScheduleFieldI18n(datesTitle, daysTitle, timesTitle, datesPlaceholder,
+        List.of(startTime, endTime), dayInitials, daysChipsText, timeChipsText,
+        exclusionsPlaceholder, recurrenceText, ordinalsText, previewHeaders);
   }
 
   /**
-   * Gets current time pickers' placeholder.
+   * Gets the time pickers' placeholder.
    *
    * @return
    * a list where the first element corresponds to the start-time picker's placeholder and the second to the end-time picker's placeholder
-   * <br><br>{@code null} if this object is not attached to a {@code RecurrentScheduleField} instance
+   * <br><br>{@code null} if the placeholders have not been set
    */
   public List<String> getTimesPlaceholder() {
-    return component != null ? List.of(
-        component.getStartTimePicker().getPlaceholder(),
-        component.getEndTimePicker().getPlaceholder()
-    ) : null;
+    return timesPlaceholder;
   }
 
   /**
-   * Sets the date pickers' placeholder.
+   * Returns a copy with the given date pickers' placeholder.
    *
    * @param startDate   placeholder for the start-date picker
    * @param endDate     placeholder for the end-date picker
+   * @return a new instance with the given placeholders
    */
-  public RecurrentScheduleFieldI18n setDatesPlaceholder(String startDate, String endDate) {
-    addAction(() -> {
-      component.getStartDatePicker().setPlaceholder(startDate);
-      component.getEndDatePicker().setPlaceholder(endDate);
-    }, "setDatesPlaceholder");
-    return this;
+  public RecurrentScheduleFieldI18n withDatesPlaceholder(String startDate, String endDate) {
+    return new RecurrentScheduleFieldI18n(datesTitle, daysTitle, timesTitle,
+        List.of(startDate, endDate), timesPlaceholder, dayInitials, daysChipsText, timeChipsText,
+        exclusionsPlaceholder, recurrenceText, ordinalsText, previewHeaders);
   }
 
   /**
-   * Gets current date pickers' placeholder.
+   * Gets the date pickers' placeholder.
    *
    * @return
    * a list where the first element corresponds to the start-date picker's placeholder and the second to the end-date picker's placeholder
-   * <br><br>{@code null} if this object is not attached to a {@code RecurrentScheduleField} instance
+   * <br><br>{@code null} if the placeholders have not been set
    */
   public List<String> getDatesPlaceholder() {
-    return component != null ? List.of(
-        component.getStartDatePicker().getPlaceholder(),
-        component.getEndDatePicker().getPlaceholder()
-    ) : null;
+    return datesPlaceholder;
   }
 
   /**
-   * Sets the week days picker's initials.
+   * Returns a copy with the given excluded dates picker's placeholder.
+   *
+   * @param text   placeholder for the picker that adds excluded dates
+   * @return a new instance with the given placeholder
+   */
+  public RecurrentScheduleFieldI18n withExclusionsPlaceholder(String text) {
+    return new RecurrentScheduleFieldI18n(datesTitle, daysTitle, timesTitle, datesPlaceholder,
+        timesPlaceholder, dayInitials, daysChipsText, timeChipsText, text, recurrenceText,
+        ordinalsText, previewHeaders);
+  }
+
+  /**
+   * Gets the excluded dates picker's placeholder.
+   *
+   * @return excluded dates picker's placeholder or {@code null} if it has not been set
+   */
+  public String getExclusionsPlaceholder() {
+    return exclusionsPlaceholder;
+  }
+
+  /**
+   * Returns a copy with the given week days picker's initials.
    *
    * @param initials   a list of initials for the 7 days of the week
    *                   <br>The order of each depends on the order set on the picker
+   * @return a new instance with the given initials
    * @see RecurrentScheduleField#setFirstWeekDay(DayOfWeek)
    */
-  public RecurrentScheduleFieldI18n setDayInitials(List<String> initials) {
+  public RecurrentScheduleFieldI18n withDayInitials(List<String> initials) {
     if (initials == null || initials.size() != 7) {
       throw new IllegalArgumentException("Exactly 7 day initials are required");
     }
-    addAction(() -> {
-      component.setDaysInitials(initials);
-      component.getWeekDaySelector().setWeekDaysShort(initials);
-    }, "setDayInitials");
-    return this;
+    return new RecurrentScheduleFieldI18n(datesTitle, daysTitle, timesTitle, datesPlaceholder,
+        timesPlaceholder, List.copyOf(initials), daysChipsText, timeChipsText,
+        exclusionsPlaceholder, recurrenceText, ordinalsText, previewHeaders);
   }
 
   /**
-   * Gets current week days picker's initials.
+   * Gets the week days picker's initials.
    *
    * @return
    * a list of initials for the 7 days of the week. The order of each depends on the order set on the picker
-   * <br><br>{@code null} if this object is not attached to a {@code RecurrentScheduleField} instance
+   * <br><br>{@code null} if the initials have not been set
    * @see RecurrentScheduleField#setFirstWeekDay(DayOfWeek)
    */
   public List<String> getDayInitials() {
-    return component != null ? component.getDaysInitials() : null;
+    return dayInitials;
   }
 
   /**
-   * Sets the time filter chips' text.
+   * Returns a copy with the given time filter chips' text.
    *
    * @param morning       text for the morning-only chip
    * @param afternoon     text for the afternoon-only chip
    * @param all           text for the all-day chip
+   * @return a new instance with the given texts
    */
-  public RecurrentScheduleFieldI18n setTimeChipsText(String morning, String afternoon, String all) {
-    addAction(() -> {
-      component.getMorningChip().setText(morning);
-      component.getAfterNoonChip().setText(afternoon);
-      component.getAllTimeChip().setText(all);
-    }, "setTimeChipsText");
-    return this;
+  public RecurrentScheduleFieldI18n withTimeChipsText(String morning, String afternoon, String all) {
+    return new RecurrentScheduleFieldI18n(datesTitle, daysTitle, timesTitle, datesPlaceholder,
+        timesPlaceholder, dayInitials, daysChipsText, List.of(morning, afternoon, all),
+        exclusionsPlaceholder, recurrenceText, ordinalsText, previewHeaders);
   }
 
   /**
-   * Gets current time filter chips' text.
+   * Gets the time filter chips' text.
    *
    * @return
    * a list where the first element corresponds to the morning-only chip's text,
    * the second to the afternoon-only chip's text and the third to the all-day chip's text
    *
-   * <br><br>{@code null} if this object is not attached to a {@code RecurrentScheduleField} instance
+   * <br><br>{@code null} if the texts have not been set
    */
   public List<String> getTimeChipsText() {
-    return component != null ? List.of(
-        component.getMorningChip().getText(),
-        component.getAfterNoonChip().getText(),
-        component.getAllTimeChip().getText()
-    ) : null;
+    return timeChipsText;
   }
 
   /**
-   * Sets the days filter chips' text.
+   * Returns a copy with the given days filter chips' text.
    *
    * @param weekdays      text for the monday-to-friday chip
    * @param weekend       text for the weekends-only chip
    * @param all           text for the all days chip
+   * @return a new instance with the given texts
    */
-  public RecurrentScheduleFieldI18n setDaysChipsText(String weekend, String weekdays, String all) {
-    addAction(() -> {
-      component.getWeekdaysChip().setText(weekdays);
-      component.getWeekendChip().setText(weekend);
-      component.getAllDaysChip().setText(all);
-    }, "setDaysChipsText");
-    return this;
+  public RecurrentScheduleFieldI18n withDaysChipsText(String weekend, String weekdays, String all) {
+    return new RecurrentScheduleFieldI18n(datesTitle, daysTitle, timesTitle, datesPlaceholder,
+        timesPlaceholder, dayInitials, List.of(weekdays, weekend, all), timeChipsText,
+        exclusionsPlaceholder, recurrenceText, ordinalsText, previewHeaders);
   }
 
   /**
-   * Gets current days filter chips' text.
+   * Gets the days filter chips' text.
    *
    * @return
    * a list where the first element corresponds to the monday-to-friday chip's text,
    * the second to the weekends-only chip's text and the third to the all-days chip's text
    *
-   * <br><br>{@code null} if this object is not attached to a {@code RecurrentScheduleField} instance
+   * <br><br>{@code null} if the texts have not been set
    */
   public List<String> getDaysChipsText() {
-    return component != null ? List.of(
-        component.getWeekdaysChip().getText(),
-        component.getWeekendChip().getText(),
-        component.getAllDaysChip().getText()
-    ) : null;
+    return daysChipsText;
+  }
+
+  /**
+   * Returns a copy with the given recurrence selector's items text.
+   *
+   * @param weekly            text for the weekly recurrence, repeating every few weeks
+   * @param monthlyByDay      text for the recurrence on a day of every month
+   * @param monthlyByWeekday  text for the recurrence on the nth day of the week of every month
+   * @return a new instance with the given texts
+   */
+  public RecurrentScheduleFieldI18n withRecurrenceText(String weekly, String monthlyByDay,
+      String monthlyByWeekday) {
+    return new RecurrentScheduleFieldI18n(datesTitle, daysTitle, timesTitle, datesPlaceholder,
+        timesPlaceholder, dayInitials, daysChipsText, timeChipsText, exclusionsPlaceholder,
+        List.of(weekly, monthlyByDay, monthlyByWeekday), ordinalsText, previewHeaders);
+  }
+
+  /**
+   * Gets the recurrence selector's items text.
+   *
+   * @return
+   * a list where the first element corresponds to the weekly recurrence's text,
+   * the second to the day of the month recurrence's text and the third to the nth day of the week recurrence's text
+   *
+   * <br><br>{@code null} if the texts have not been set
+   */
+  public List<String> getRecurrenceText() {
+    return recurrenceText;
+  }
+
+  /**
+   * Returns a copy with the given text of the occurrences of a day of the week within a month.
+   *
+   * @param ordinals   a list of texts for the first to fifth occurrences, followed by the last one
+   * @return a new instance with the given texts
+   */
+  public RecurrentScheduleFieldI18n withOrdinalsText(List<String> ordinals) {
+    if (ordinals == null || ordinals.size() != 6) {
+      throw new IllegalArgumentException("Exactly 6 ordinals are required");
+    }
+    return new RecurrentScheduleFieldI18n(datesTitle, daysTitle, timesTitle, datesPlaceholder,
+        timesPlaceholder, dayInitials, daysChipsText, timeChipsText, exclusionsPlaceholder,
+        recurrenceText, List.copyOf(ordinals), previewHeaders);
+  }
+
+  /**
+   * Gets the text of the occurrences of a day of the week within a month.
+   *
+   * @return
+   * a list of texts for the first to fifth occurrences, followed by the last one
+   * <br><br>{@code null} if the texts have not been set
+   */
+  public List<String> getOrdinalsText() {
+    return ordinalsText;
+  }
+
+  /**
+   * Returns a copy with the given column headers of {@link IntervalsPreview}.
+   *
+   * @param weekDay   header of the week day column
+   * @param start     header of the start column
+   * @param end       header of the end column
+   * @return a new instance with the given headers
+   */
+  public RecurrentScheduleFieldI18n withPreviewHeaders(String weekDay, String start, String end) {
+    return new RecurrentScheduleFieldI18n(datesTitle, daysTitle, timesTitle, datesPlaceholder,
+        timesPlaceholder, dayInitials, daysChipsText, timeChipsText, exclusionsPlaceholder,
+        recurrenceText, ordinalsText, List.of(weekDay, start, end));
+  }
+
+  /**
+   * Gets the column headers of {@link IntervalsPreview}.
+   *
+   * @return
+   * a list where the first element corresponds to the week day column's header,
+   * the second to the start column's header and the third to the end column's header
+   *
+   * <br><br>{@code null} if the headers have not been set
+   */
+  public List<String> getPreviewHeaders() {
+    return previewHeaders;
+  }
+
+  /**
+   * Returns a copy with the given date pickers' title.
+   *
+   * @deprecated this instance is no longer modified, use {@link #withDatesTitle(String)} and keep the
+   *             returned instance instead
+   */
+  @Deprecated
+  public RecurrentScheduleFieldI18n setDatesTitle(String text) {
+    return withDatesTitle(text);
+  }
+
+  /**
+   * Returns a copy with the given days picker's title.
+   *
+   * @deprecated this instance is no longer modified, use {@link #withDaysTitle(String)} and keep the
+   *             returned instance instead
+   */
+  @Deprecated
+  public RecurrentScheduleFieldI18n setDaysTitle(String text) {
+    return withDaysTitle(text);
+  }
+
+  /**
+   * Returns a copy with the given time pickers' title.
+   *
+   * @deprecated this instance is no longer modified, use {@link #withTimesTitle(String)} and keep the
+   *             returned instance instead
+   */
+  @Deprecated
+  public RecurrentScheduleFieldI18n setTimesTitle(String text) {
+    return withTimesTitle(text);
+  }
+
+  /**
+   * Returns a copy with the given time pickers' placeholder.
+   *
+   * @deprecated this instance is no longer modified, use {@link #withTimesPlaceholder(String, String)} and keep the
+   *             returned instance instead
+   */
+  @Deprecated
+  public RecurrentScheduleFieldI18n setTimesPlaceholder(String startTime, String endTime) {
+    return withTimesPlaceholder(startTime, endTime);
+  }
+
+  /**
+   * Returns a copy with the given date pickers' placeholder.
+   *
+   * @deprecated this instance is no longer modified, use {@link #withDatesPlaceholder(String, String)} and keep the
+   *             returned instance instead
+   */
+  @Deprecated
+  public RecurrentScheduleFieldI18n setDatesPlaceholder(String startDate, String endDate) {
+    return withDatesPlaceholder(startDate, endDate);
+  }
+
+  /**
+   * Returns a copy with the given week days picker's initials.
+   *
+   * @deprecated this instance is no longer modified, use {@link #withDayInitials(List)} and keep the
+   *             returned instance instead
+   */
+  @Deprecated
+  public RecurrentScheduleFieldI18n setDayInitials(List<String> initials) {
+    return withDayInitials(initials);
+  }
+
+  /**
+   * Returns a copy with the given time filter chips' text.
+   *
+   * @deprecated this instance is no longer modified, use {@link #withTimeChipsText(String, String, String)} and keep the
+   *             returned instance instead
+   */
+  @Deprecated
+  public RecurrentScheduleFieldI18n setTimeChipsText(String morning, String afternoon, String all) {
+    return withTimeChipsText(morning, afternoon, all);
+  }
+
+  /**
+   * Returns a copy with the given days filter chips' text.
+   *
+   * @deprecated this instance is no longer modified, use {@link #withDaysChipsText(String, String, String)} and keep the
+   *             returned instance instead
+   */
+  @Deprecated
+  public RecurrentScheduleFieldI18n setDaysChipsText(String weekend, String weekdays, String all) {
+    return withDaysChipsText(weekend, weekdays, all);
   }
 }
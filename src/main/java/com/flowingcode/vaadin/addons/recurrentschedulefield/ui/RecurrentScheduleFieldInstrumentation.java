@@ -0,0 +1,71 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.ui;
+
+import java.io.Serializable;
+
+/**
+ * Receives the server-side work performed by a {@link RecurrentScheduleField}.
+ *
+ * <p>
+ * Implementations can bridge these measurements to a metrics backend in order to detect forms where
+ * a single user interaction triggers a cascade of recomputations. Instrumentation is opt-in: when
+ * none is set, the component does not take any measurement.
+ * </p>
+ *
+ * <p>
+ * {@link Operation#VALIDATION} and {@link Operation#REFRESH_UI} don't overlap, but both happen
+ * within {@link Operation#GENERATE_MODEL_VALUE}, and {@link Operation#VALUE_CHANGE} includes
+ * whatever its listeners trigger, so the times of nested operations should not be added up.
+ * </p>
+ *
+ * @author Flowing Code
+ * @see RecurrentScheduleField#setInstrumentation(RecurrentScheduleFieldInstrumentation)
+ * @see RecurrentScheduleFieldMetrics
+ */
+@FunctionalInterface
+public interface RecurrentScheduleFieldInstrumentation extends Serializable {
+
+  /**
+   * The operations measured by the component.
+   */
+  enum Operation {
+    /** Generation of the model value from the sub-fields, including its validation. */
+    GENERATE_MODEL_VALUE,
+    /**
+     * Constraint check run by {@link RecurrentScheduleFieldValidator#isValid()}, without the
+     * {@link #REFRESH_UI} that follows it.
+     */
+    VALIDATION,
+    /** Update of the validation indicators and span labels. */
+    REFRESH_UI,
+    /** An update of the field's value that fired a value-change event, including its listeners. */
+    VALUE_CHANGE
+  }
+
+  /**
+   * Called each time an operation completes.
+   *
+   * @param field the component that performed the operation
+   * @param operation the operation performed
+   * @param nanos the time spent in the operation, in nanoseconds
+   */
+  void record(RecurrentScheduleField field, Operation operation, long nanos);
+}
@@ -0,0 +1,82 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.ui;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link RecurrentScheduleFieldInstrumentation} that accumulates invocation counts and time spent
+ * per operation.
+ *
+ * <p>
+ * A single instance may be shared by several components, even across sessions.
+ * </p>
+ *
+ * @author Flowing Code
+ */
+public class RecurrentScheduleFieldMetrics implements RecurrentScheduleFieldInstrumentation {
+
+  private final LongAdder[] counts = createAdders();
+  private final LongAdder[] nanos = createAdders();
+
+  private static LongAdder[] createAdders() {
+    LongAdder[] adders = new LongAdder[Operation.values().length];
+    for (int i = 0; i < adders.length; i++) {
+      adders[i] = new LongAdder();
+    }
+    return adders;
+  }
+
+  @Override
+  public void record(RecurrentScheduleField field, Operation operation, long nanos) {
+    this.counts[operation.ordinal()].increment();
+    this.nanos[operation.ordinal()].add(nanos);
+  }
+
+  /**
+   * Gets how many times the given operation has completed.
+   *
+   * @param operation the operation to query
+   * @return the number of recorded invocations
+   */
+  public long getCount(Operation operation) {
+    return counts[operation.ordinal()].sum();
+  }
+
+  /**
+   * Gets the accumulated time spent in the given operation.
+   *
+   * @param operation the operation to query
+   * @return the total time in nanoseconds
+   */
+  public long getTotalNanos(Operation operation) {
+    return nanos[operation.ordinal()].sum();
+  }
+
+  /**
+   * Resets all counts and times to zero.
+   */
+  public void reset() {
+    for (int i = 0; i < counts.length; i++) {
+      counts[i].reset();
+      nanos[i].reset();
+    }
+  }
+}
@@ -20,13 +20,11 @@
 package com.flowingcode.vaadin.addons.recurrentschedulefield.ui;
 
 import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRangeConstraints;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.ui.RecurrentScheduleFieldInstrumentation.Operation;
 import com.vaadin.flow.data.binder.ValidationResult;
 import com.vaadin.flow.data.binder.Validator;
 import com.vaadin.flow.data.binder.ValueContext;
-import java.time.DayOfWeek;
-import java.time.LocalDate;
-import java.time.LocalTime;
-import java.util.Set;
 
 /**
  * Validator for {@link RecurrentScheduleField} component.
@@ -71,29 +69,30 @@ public class RecurrentScheduleFieldValidator implements Validator<DateTimeRange>
     return result;
   }
 
-  // Checks if UI is valid
+  // Checks if UI is valid, using the same rules as DateTimeRangeConstraints
   public boolean isValid() {
-    boolean datesOk = dateValidation(model.getStartDatePicker().getValue(), model.getEndDatePicker().getValue());
-    boolean daysOk = daysValidation(model.getWeekDaySelector().getValue());
-    boolean timesOk = timeValidation(model.getStartTimePicker().getValue(), model.getEndTimePicker().getValue());
+    RecurrentScheduleField.Timer timer = model.startTimer();
+    ValidationEvent event = new ValidationEvent();
+    event.begin();
+    int violations = model.getConstraints().validate(
+        model.getStartDatePicker().getValue(),
+        model.getEndDatePicker().getValue(),
+        model.getStartTimePicker().getValue(),
+        model.getEndTimePicker().getValue(),
+        model.getSelectedWeekDays()
+    );
+    boolean datesOk = (violations & DateTimeRangeConstraints.DATES_VIOLATIONS) == 0;
+    boolean daysOk = (violations & DateTimeRangeConstraints.DAYS_VIOLATIONS) == 0;
+    boolean timesOk = (violations & DateTimeRangeConstraints.TIMES_VIOLATIONS) == 0;
+    // Refreshing the UI is measured on its own
+    timer.stop(Operation.VALIDATION);
     model.refreshUI(datesOk, daysOk, timesOk);
+    if (event.shouldCommit()) {
+      event.datesValid = datesOk;
+      event.daysValid = daysOk;
+      event.timesValid = timesOk;
+      event.commit();
+    }
     return datesOk && daysOk && timesOk;
   }
-
-  private boolean dateValidation(LocalDate start, LocalDate end) {
-    boolean notNull = (start != null && end != null);
-    return notNull && start.isBefore(end);
-  }
-
-  private boolean timeValidation(LocalTime start, LocalTime end) {
-    boolean notNull = (start != null && end != null);
-    return notNull && start.isBefore(end);
-  }
-
-  private boolean daysValidation(Set<DayOfWeek> weekDays) {
-    boolean notNull = weekDays != null;
-    return notNull && !weekDays.isEmpty();
-  }
-
-
 }
@@ -0,0 +1,47 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.ui;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDK Flight Recorder event emitted when a {@link RecurrentScheduleFieldValidator} checks the
+ * sub-fields of a {@link RecurrentScheduleField}.
+ */
+@Name(ValidationEvent.NAME)
+@Label("Field Validation")
+@Category({"Flowing Code", "Recurrent Schedule Field"})
+@Description("Validation of the sub-fields of a RecurrentScheduleField")
+final class ValidationEvent extends jdk.jfr.Event {
+
+  static final String NAME = "com.flowingcode.recurrentschedulefield.Validation";
+
+  @Label("Dates Valid")
+  boolean datesValid;
+
+  @Label("Days Valid")
+  boolean daysValid;
+
+  @Label("Times Valid")
+  boolean timesValid;
+}
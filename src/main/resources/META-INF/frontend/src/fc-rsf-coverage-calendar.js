@@ -0,0 +1,119 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+import { LitElement, html, css } from 'lit';
+
+/**
+ * Calendar heatmap for a DateTimeRange.
+ * Each entry in `months` carries a `coverage` bitset where bit n stands for day n + 1.
+ */
+class CoverageCalendar extends LitElement {
+
+  static get properties() {
+    return {
+      months: { type: Array },
+      firstDayOfWeek: { type: Number }
+    };
+  }
+
+  static get styles() {
+    return css`
+      :host {
+        display: flex;
+        flex-direction: column;
+        gap: var(--lumo-space-s);
+        font-size: var(--lumo-font-size-s);
+      }
+      .nav {
+        display: flex;
+        justify-content: space-between;
+      }
+      .nav button {
+        background: none;
+        border: none;
+        cursor: pointer;
+        color: var(--lumo-primary-text-color);
+        font-size: var(--lumo-font-size-l);
+      }
+      .months {
+        display: flex;
+        flex-wrap: wrap;
+        gap: var(--lumo-space-m);
+      }
+      .title {
+        text-align: center;
+        color: var(--lumo-secondary-text-color);
+      }
+      .days {
+        display: grid;
+        grid-template-columns: repeat(7, 1.5em);
+        gap: 2px;
+      }
+      .day {
+        height: 1.5em;
+        border-radius: var(--lumo-border-radius-s);
+        background: var(--lumo-contrast-5pct);
+      }
+      .day.covered {
+        background: var(--lumo-primary-color);
+      }
+      .day.empty {
+        background: none;
+      }
+    `;
+  }
+
+  constructor() {
+    super();
+    this.months = [];
+    this.firstDayOfWeek = 0;
+  }
+
+  render() {
+    return html`
+      <div class="nav">
+        <button @click=${() => this._navigate(-this.months.length)}>&lsaquo;</button>
+        <button @click=${() => this._navigate(this.months.length)}>&rsaquo;</button>
+      </div>
+      <div class="months">${this.months.map(m => this._renderMonth(m))}</div>
+    `;
+  }
+
+  _renderMonth(month) {
+    const first = new Date(month.year, month.month - 1, 1);
+    const length = new Date(month.year, month.month, 0).getDate();
+    const blanks = (first.getDay() - this.firstDayOfWeek + 7) % 7;
+    const title = first.toLocaleDateString(undefined, { month: 'short', year: 'numeric' });
+    const cells = [];
+    for (let i = 0; i < blanks; i++) {
+      cells.push(html`<div class="day empty"></div>`);
+    }
+    for (let day = 0; day < length; day++) {
+      const covered = (month.coverage >>> day) & 1;
+      cells.push(html`<div class="day ${covered ? 'covered' : ''}" title="${day + 1}"></div>`);
+    }
+    return html`<div><div class="title">${title}</div><div class="days">${cells}</div></div>`;
+  }
+
+  _navigate(delta) {
+    this.dispatchEvent(new CustomEvent('navigate', { detail: { delta } }));
+  }
+}
+
+customElements.define('fc-rsf-coverage-calendar', CoverageCalendar);
@@ -0,0 +1,60 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield;
+
+import com.flowingcode.vaadin.addons.demo.DemoSource;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.ui.CoverageCalendar;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.ui.IntervalsPreview;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.ui.RecurrentScheduleField;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.router.PageTitle;
+import com.vaadin.flow.router.Route;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@PageTitle("Preview")
+@Route(value = "recurrent-schedule-field/preview", layout = RecurrentScheduleFieldDemoView.class)
+@DemoSource
+public class PreviewDemo extends VerticalLayout {
+
+  public PreviewDemo() {
+    setSizeFull();
+
+    // A range spanning twenty years
+    DateTimeRange dtr = new DateTimeRange(
+        LocalDate.now(),
+        LocalDate.now().plusYears(20),
+        LocalTime.of(9, 0),
+        LocalTime.of(18, 0)
+    );
+    RecurrentScheduleField field = new RecurrentScheduleField(dtr);
+
+    // The preview follows the field's value.
+    // Only the visible intervals are generated and sent to the client
+    IntervalsPreview preview = new IntervalsPreview(field);
+    preview.setWidth("75%");
+
+    // Days covered by the field's value, computed one month at a time
+    CoverageCalendar calendar = new CoverageCalendar(field);
+
+    add(field, preview, calendar);
+  }
+}
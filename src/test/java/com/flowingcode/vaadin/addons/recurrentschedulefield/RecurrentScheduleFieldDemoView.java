@@ -35,5 +35,6 @@ public class RecurrentScheduleFieldDemoView extends TabbedDemo {
     addDemo(BinderDemo.class);
     addDemo(StatesDemo.class);
     addDemo(ConstrainedDemo.class);
+    addDemo(PreviewDemo.class);
   }
 }
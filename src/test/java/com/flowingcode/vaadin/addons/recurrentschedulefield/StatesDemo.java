@@ -58,9 +58,9 @@ public class StatesDemo extends VerticalLayout {
     field.setFirstWeekDay(DayOfWeek.THURSDAY);
     // Use i18n utility class for localization
     field.setI18n(new RecurrentScheduleFieldI18n()
-        .setDatesTitle("Custom date title")
-        .setTimeChipsText("AM", "PM", "AM + PM")
-        .setTimesPlaceholder("Begin", "End")
+        .withDatesTitle("Custom date title")
+        .withTimeChipsText("AM", "PM", "AM + PM")
+        .withTimesPlaceholder("Begin", "End")
         //... and more
     );
 
@@ -0,0 +1,79 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.AvailabilityTimeline;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.TimeInterval;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+
+public class AvailabilityTimelineTest {
+
+  private static TimeInterval interval(int day, int startHour, int endDay, int endHour) {
+    return new TimeInterval(LocalDateTime.of(2025, 4, day, startHour, 0),
+        LocalDateTime.of(2025, 4, endDay, endHour, 0));
+  }
+
+  @Test
+  public void testCoalesce() {
+    // Mondays and Wednesdays, from Monday 7 to Monday 14 (exclusive) - 09:00 to 12:00
+    DateTimeRange mornings = new DateTimeRange(LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 14),
+        LocalTime.of(9, 0), LocalTime.NOON, Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY));
+    // Mondays, from Monday 7 to Monday 14 (exclusive) - 11:00 to 15:00 (overlapping)
+    DateTimeRange middays = new DateTimeRange(LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 14),
+        LocalTime.of(11, 0), LocalTime.of(15, 0), Set.of(DayOfWeek.MONDAY));
+    // Mondays and Fridays, from Monday 7 to Monday 14 (exclusive) - 15:00 to 18:00 (adjacent)
+    DateTimeRange afternoons = new DateTimeRange(LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 14),
+        LocalTime.of(15, 0), LocalTime.of(18, 0), Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+
+    AvailabilityTimeline timeline = new AvailabilityTimeline(List.of(mornings, middays, afternoons),
+        LocalDateTime.of(2025, 4, 1, 0, 0));
+    assertThat(timeline.getIntervals(LocalDateTime.of(2025, 5, 1, 0, 0)), equalTo(List.of(
+        interval(7, 9, 7, 18),
+        interval(9, 9, 9, 12),
+        interval(11, 15, 11, 18))));
+    assertThat(timeline.getIntervals(LocalDateTime.of(2025, 4, 9, 9, 0)), equalTo(List.of(
+        interval(7, 9, 7, 18))));
+  }
+
+  @Test
+  public void testCoalesceWholeDays() {
+    // Mondays and Tuesdays, whole days
+    DateTimeRange days = new DateTimeRange(LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 14),
+        Set.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY));
+    // Wednesday mornings
+    DateTimeRange mornings = new DateTimeRange(LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 14),
+        LocalTime.MIN, LocalTime.NOON, Set.of(DayOfWeek.WEDNESDAY));
+
+    AvailabilityTimeline timeline = new AvailabilityTimeline(List.of(days, mornings),
+        LocalDateTime.of(2025, 4, 1, 0, 0));
+    assertThat(timeline.getIntervals(LocalDateTime.of(2025, 5, 1, 0, 0)), equalTo(List.of(
+        interval(7, 0, 9, 12))));
+  }
+}
@@ -0,0 +1,115 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.ConstraintViolation;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRangeConstraints;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.MonthlyDayRecurrence;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+
+public class DateTimeRangeConstraintsTest {
+
+  private static final LocalDate START = LocalDate.of(2025, 4, 7);
+
+  private final DateTimeRangeConstraints constraints = DateTimeRangeConstraints.NONE
+      .withMinDate(START)
+      .withMaxDate(START.plusDays(30))
+      .withMaxDaysSpan(14)
+      .withMinTime(LocalTime.of(8, 0))
+      .withMaxTime(LocalTime.of(20, 0))
+      .withAllowedWeekDays(Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY));
+
+  @Test
+  public void testViolations() {
+    assertThat(constraints.validate(null, null, null, null, null), equalTo(
+        ConstraintViolation.INCOMPLETE_DATES.mask()
+        | ConstraintViolation.INCOMPLETE_DAYS.mask()
+        | ConstraintViolation.INCOMPLETE_TIMES.mask()));
+
+    assertThat(constraints.validate(range(START, START.plusDays(7), 9, 17, DayOfWeek.MONDAY)), equalTo(0));
+    assertThat(ConstraintViolation.of(constraints.validate(range(START.minusDays(1), START.plusDays(7), 9, 17, DayOfWeek.MONDAY))),
+        equalTo(Set.of(ConstraintViolation.DATES_OUT_OF_BOUNDS)));
+    assertThat(ConstraintViolation.of(constraints.validate(range(START, START.plusDays(20), 9, 17, DayOfWeek.MONDAY))),
+        equalTo(Set.of(ConstraintViolation.DATES_SPAN_EXCEEDED)));
+    assertThat(ConstraintViolation.of(constraints.validate(range(START, START.plusDays(7), 7, 17, DayOfWeek.SUNDAY))),
+        equalTo(Set.of(ConstraintViolation.TIMES_OUT_OF_BOUNDS, ConstraintViolation.DAYS_NOT_ALLOWED)));
+    assertThat(ConstraintViolation.of(constraints.validate(START.plusDays(7), START, LocalTime.NOON, LocalTime.NOON,
+        Set.of(DayOfWeek.FRIDAY))),
+        equalTo(Set.of(ConstraintViolation.INVALID_DATES_ORDER, ConstraintViolation.INVALID_TIMES_ORDER)));
+  }
+
+  @Test
+  public void testMonthlyDayWeekDays() {
+    // Only the days of the month within the range are checked against the allowed week days
+    DateTimeRange range = range(START, START.plusDays(14), 9, 17, DayOfWeek.MONDAY);
+    range.setRecurrenceRule(new MonthlyDayRecurrence(9));
+    assertThat(constraints.validate(range), equalTo(0));
+
+    range.setRecurrenceRule(new MonthlyDayRecurrence(12));
+    assertThat(ConstraintViolation.of(constraints.validate(range)),
+        equalTo(Set.of(ConstraintViolation.DAYS_NOT_ALLOWED)));
+
+    range.setRecurrenceRule(new MonthlyDayRecurrence(30));
+    assertThat(ConstraintViolation.of(constraints.validate(range)),
+        equalTo(Set.of(ConstraintViolation.INCOMPLETE_DAYS)));
+  }
+
+  @Test
+  public void testValidateAll() {
+    List<DateTimeRange> ranges = List.of(
+        range(START, START.plusDays(7), 9, 17, DayOfWeek.MONDAY),
+        range(START, START.plusDays(7), 9, 21, DayOfWeek.MONDAY),
+        range(START, START.plusDays(7), 9, 17, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY)
+    );
+    int[] results = new int[ranges.size()];
+
+    assertThat(constraints.validateAll(ranges, results), equalTo(1L));
+    assertThat(results[0], equalTo(0));
+    assertThat(results[1], equalTo(ConstraintViolation.TIMES_OUT_OF_BOUNDS.mask()));
+    assertThat(results[2], equalTo(0));
+  }
+
+  @Test
+  public void testValidateAllLinkedList() {
+    List<DateTimeRange> ranges = new LinkedList<>();
+    for (int i = 0; i < 10000; i++) {
+      ranges.add(range(START, START.plusDays(7), 9, i % 2 == 0 ? 17 : 21, DayOfWeek.MONDAY));
+    }
+    int[] results = new int[ranges.size()];
+
+    assertThat(constraints.validateAll(ranges, results), equalTo(5000L));
+    assertThat(results[9999], equalTo(ConstraintViolation.TIMES_OUT_OF_BOUNDS.mask()));
+  }
+
+  private static DateTimeRange range(LocalDate start, LocalDate end, int startHour, int endHour,
+      DayOfWeek... days) {
+    return new DateTimeRange(start, end, LocalTime.of(startHour, 0), LocalTime.of(endHour, 0), Set.of(days));
+  }
+}
@@ -0,0 +1,128 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRangeFile;
+
+public class DateTimeRangeFileTest {
+
+  private Path path;
+
+  @Before
+  public void setup() throws IOException {
+    path = Files.createTempFile("schedules", ".bin");
+    // Mapped files can't be deleted on some platforms until the mapping is collected
+    path.toFile().deleteOnExit();
+  }
+
+  @Test
+  public void testQueriesMatchDateTimeRange() throws IOException {
+    DateTimeRange holidays = new DateTimeRange(
+        LocalDate.of(2025, 4, 1),
+        LocalDate.of(2025, 12, 31),
+        LocalTime.of(9, 0),
+        LocalTime.of(18, 0),
+        Set.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY,
+            DayOfWeek.FRIDAY)
+    );
+    holidays.setExcludedDates(List.of(
+        LocalDate.of(2025, 4, 18), LocalDate.of(2025, 5, 1), LocalDate.of(2025, 12, 25)));
+    DateTimeRange everyOtherWeek = new DateTimeRange(
+        LocalDate.of(2025, 4, 10),
+        LocalDate.of(2025, 7, 1),
+        LocalTime.of(20, 0),
+        LocalTime.MAX,
+        Set.of(DayOfWeek.SATURDAY)
+    );
+    everyOtherWeek.setWeekInterval(2);
+    List<DateTimeRange> ranges = List.of(holidays, everyOtherWeek);
+    DateTimeRangeFile.write(path, ranges);
+
+    DateTimeRangeFile file = DateTimeRangeFile.open(path);
+    assertThat(file.size(), equalTo(2));
+    assertThat(file.get(0).getExcludedDates(), equalTo(holidays.getExcludedDates()));
+    assertThat(file.get(1).getWeekInterval(), equalTo(2));
+
+    LocalDateTime dateTime = LocalDateTime.of(2025, 3, 30, 0, 0);
+    for (int step = 0; step < 1000; step++, dateTime = dateTime.plusMinutes(430)) {
+      BitSet including = file.findIncluding(dateTime);
+      for (int i = 0; i < ranges.size(); i++) {
+        assertThat(file.includes(i, dateTime), equalTo(ranges.get(i).includes(dateTime)));
+        assertThat(including.get(i), equalTo(ranges.get(i).includes(dateTime)));
+        assertThat(file.getNextInterval(i, dateTime), equalTo(ranges.get(i).getNextInterval(dateTime)));
+      }
+    }
+    assertThat(file.getNextInterval(0, LocalDateTime.of(2025, 4, 17, 19, 0)),
+        equalTo(holidays.getNextInterval(LocalDate.of(2025, 4, 21))));
+  }
+
+  @Test(expected = IOException.class)
+  public void testNotAScheduleFile() throws IOException {
+    Files.write(path, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+    DateTimeRangeFile.open(path);
+  }
+
+  @Test
+  public void testCorruptExcludedDates() throws IOException {
+    DateTimeRange range = new DateTimeRange(LocalDate.of(2025, 4, 1), LocalDate.of(2025, 12, 31));
+    range.setExcludedDates(List.of(LocalDate.of(2025, 5, 1)));
+    DateTimeRangeFile.write(path, List.of(range, range));
+    byte[] bytes = Files.readAllBytes(path);
+
+    // Offset of the second record's excluded dates, past the end of the file
+    ByteBuffer corrupt = ByteBuffer.wrap(bytes.clone());
+    corrupt.putLong(12 + 24 + 16, bytes.length);
+    assertOpenFails(corrupt.array(), "Invalid excluded dates offset " + bytes.length + " in record 1");
+
+    // Word count of the first record's excluded dates, past the end of the file
+    corrupt = ByteBuffer.wrap(bytes.clone());
+    corrupt.putInt((int) corrupt.getLong(12 + 16), 1000);
+    assertOpenFails(corrupt.array(), "Invalid excluded dates word count 1000 in record 0");
+  }
+
+  private void assertOpenFails(byte[] bytes, String message) throws IOException {
+    Files.write(path, bytes);
+    try {
+      DateTimeRangeFile.open(path);
+      fail();
+    } catch (IOException e) {
+      assertThat(e.getMessage(), equalTo(message));
+    }
+  }
+}
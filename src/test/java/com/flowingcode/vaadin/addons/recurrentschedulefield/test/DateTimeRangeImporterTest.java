@@ -0,0 +1,116 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRangeImporter;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRangeImporter.Result;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import org.junit.Test;
+
+public class DateTimeRangeImporterTest {
+
+  private static final String CATALOG = String.join("\n",
+      "# startDate,endDate,startTime,endTime,weekDays",
+      "2025-04-07,2025-04-21,12:00,20:30,MO;FR",
+      "",
+      " \t",
+      "2025-05-01,2025-06-01,08:00:00,24:00,FREQ=WEEKLY;BYDAY=SA,SU",
+      "2025-05-01,2025-04-01,08:00,12:00,MO",
+      "2025-13-01,2025-14-01,08:00,12:00,MO",
+      "2025-05-01,2025-06-01,08:00,12:00,XX\r",
+      "2025-05-01,2025-06-01,08:00,12:00,MO TU WE TH FR\r\n");
+
+  @Test
+  public void testImportBytes() {
+    Result result = DateTimeRangeImporter.importBytes(ByteBuffer.wrap(CATALOG.getBytes(StandardCharsets.UTF_8)));
+    assertResult(result);
+  }
+
+  @Test
+  public void testImportFile() throws IOException {
+    Path file = Files.createTempFile("schedules", ".csv");
+    try {
+      StringBuilder content = new StringBuilder();
+      for (int i = 0; i < 10000; i++) {
+        content.append(CATALOG);
+      }
+      Files.writeString(file, content);
+      Result result = DateTimeRangeImporter.importFile(file);
+      assertThat(result.getLineCount(), equalTo(90000L));
+      assertThat(result.getRanges().size(), equalTo(30000));
+      assertThat(result.getErrors().size(), equalTo(30000));
+      assertThat(result.getErrors().get(29997).getLine(), equalTo(89997L));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void testIntervalAndIndentedComment() {
+    String catalog = String.join("\n",
+        "  # every other weekend",
+        "2025-05-01,2025-06-01,08:00,12:00,FREQ=WEEKLY;INTERVAL=2;BYDAY=SA,SU",
+        "2025-05-01,2025-06-01,08:00,12:00,FREQ=WEEKLY;INTERVAL=0;BYDAY=SA",
+        "2025-05-01,2025-06-01,08:00,12:00,FREQ=WEEKLY;INTERVAL=2x;BYDAY=SA");
+    Result result = DateTimeRangeImporter.importBytes(ByteBuffer.wrap(catalog.getBytes(StandardCharsets.UTF_8)));
+
+    assertThat(result.getRanges().size(), equalTo(1));
+    assertThat(result.getRanges().get(0).getWeekInterval(), equalTo(2));
+    assertThat(result.getRanges().get(0).getWeekDays(),
+        equalTo(Set.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY)));
+    assertThat(result.getErrors().size(), equalTo(2));
+    assertThat(result.getErrors().get(0).getLine(), equalTo(3L));
+    assertThat(result.getErrors().get(1).getMessage(), equalTo("Invalid interval: 2x"));
+  }
+
+  private static void assertResult(Result result) {
+    assertThat(result.getLineCount(), equalTo(9L));
+    assertThat(result.getRanges().size(), equalTo(3));
+    assertThat(result.getErrors().size(), equalTo(3));
+    assertThat(result.getErrors().get(0).getLine(), equalTo(6L));
+    assertThat(result.getErrors().get(1).getLine(), equalTo(7L));
+    assertThat(result.getErrors().get(2).getLine(), equalTo(8L));
+
+    DateTimeRange first = result.getRanges().get(0);
+    assertThat(first.getStartDate(), equalTo(LocalDate.of(2025, 4, 7)));
+    assertThat(first.getEndDate(), equalTo(LocalDate.of(2025, 4, 21)));
+    assertThat(first.getStartTime(), equalTo(LocalTime.NOON));
+    assertThat(first.getEndTime(), equalTo(LocalTime.of(20, 30)));
+    assertThat(first.getWeekDays(), equalTo(Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY)));
+
+    DateTimeRange second = result.getRanges().get(1);
+    assertThat(second.getEndTime(), equalTo(LocalTime.MAX));
+    assertThat(second.getWeekDays(), equalTo(Set.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY)));
+
+    assertThat(result.getRanges().get(2).getWeekDays().size(), equalTo(5));
+  }
+}
@@ -0,0 +1,143 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRangeStore;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.PackedDateTimeRange;
+
+public class DateTimeRangeStoreTest {
+
+  private static List<DateTimeRange> ranges() {
+    DateTimeRange everyOtherWeek = new DateTimeRange(
+        LocalDate.of(2025, 4, 10),
+        LocalDate.of(2025, 7, 1),
+        LocalTime.of(8, 30),
+        LocalTime.of(17, 0),
+        Set.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY)
+    );
+    everyOtherWeek.setWeekInterval(2);
+    DateTimeRange allDay = new DateTimeRange(LocalDate.of(1965, 3, 1), LocalDate.of(2090, 1, 1));
+    DateTimeRange evenings = new DateTimeRange(
+        LocalDate.of(2025, 4, 1),
+        LocalDate.of(2025, 5, 1),
+        LocalTime.of(18, 0),
+        LocalTime.MAX,
+        Set.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY)
+    );
+    return List.of(everyOtherWeek, allDay, evenings);
+  }
+
+  @Test
+  public void testPackingIsLossless() {
+    for (DateTimeRange range : ranges()) {
+      DateTimeRange unpacked = PackedDateTimeRange.unpack(
+          PackedDateTimeRange.packDates(range), PackedDateTimeRange.packTimes(range));
+      assertThat(unpacked.getStartDate(), equalTo(range.getStartDate()));
+      assertThat(unpacked.getEndDate(), equalTo(range.getEndDate()));
+      assertThat(unpacked.getStartTime(), equalTo(range.getStartTime()));
+      assertThat(unpacked.getEndTime(), equalTo(range.getEndTime()));
+      assertThat(unpacked.getWeekDays(), equalTo(range.getWeekDays()));
+      assertThat(unpacked.getWeekInterval(), equalTo(range.getWeekInterval()));
+    }
+  }
+
+  @Test
+  public void testNotPackable() {
+    DateTimeRange seconds = new DateTimeRange(LocalDate.of(2025, 4, 1), LocalDate.of(2025, 5, 1),
+        LocalTime.of(9, 0, 30), LocalTime.NOON);
+    DateTimeRange excluded = ranges().get(0);
+    excluded.setExcludedDates(List.of(LocalDate.of(2025, 4, 10)));
+    DateTimeRange splitShift = ranges().get(0);
+    splitShift.setDailyWindows(
+        LocalTime.of(9, 0), LocalTime.NOON, LocalTime.of(13, 0), LocalTime.of(17, 0));
+
+    assertThat(PackedDateTimeRange.isPackable(seconds), equalTo(false));
+    assertThat(PackedDateTimeRange.isPackable(excluded), equalTo(false));
+    assertThat(PackedDateTimeRange.isPackable(splitShift), equalTo(false));
+  }
+
+  @Test
+  public void testQueriesMatchDateTimeRange() {
+    List<DateTimeRange> ranges = ranges();
+    DateTimeRangeStore store = new DateTimeRangeStore(1);
+    ranges.forEach(store::add);
+    assertThat(store.size(), equalTo(3));
+
+    // Every 150 minutes for about 100 days, across the bounds of every range
+    LocalDateTime dateTime = LocalDateTime.of(2025, 3, 30, 0, 0);
+    for (int step = 0; step < 1000; step++, dateTime = dateTime.plusMinutes(150)) {
+      BitSet including = store.findIncluding(dateTime);
+      for (int i = 0; i < ranges.size(); i++) {
+        assertThat(store.includes(i, dateTime), equalTo(ranges.get(i).includes(dateTime)));
+        assertThat(including.get(i), equalTo(ranges.get(i).includes(dateTime)));
+        assertThat(store.getNextInterval(i, dateTime), equalTo(ranges.get(i).getNextInterval(dateTime)));
+      }
+    }
+  }
+
+  @Test
+  public void testScanMatchesDateTimeRange() {
+    Random random = new Random(42);
+    List<DateTimeRange> ranges = new ArrayList<>();
+    DateTimeRangeStore store = new DateTimeRangeStore();
+    for (int i = 0; i < 500; i++) {
+      LocalDate startDate = LocalDate.of(2025, 1, 1).plusDays(random.nextInt(60));
+      int startMinute = random.nextInt(1440);
+      LocalTime endTime = random.nextInt(4) == 0 ? LocalTime.MAX
+          : LocalTime.of(0, 0).plusMinutes(startMinute + 1 + random.nextInt(1439 - startMinute));
+      Set<DayOfWeek> weekDays = EnumSet.noneOf(DayOfWeek.class);
+      while (weekDays.isEmpty() || random.nextBoolean()) {
+        weekDays.add(DayOfWeek.of(1 + random.nextInt(7)));
+      }
+      DateTimeRange range = new DateTimeRange(startDate, startDate.plusDays(1 + random.nextInt(60)),
+          LocalTime.of(0, 0).plusMinutes(startMinute), endTime, weekDays);
+      range.setWeekInterval(1 + random.nextInt(3));
+      ranges.add(range);
+      store.add(range);
+    }
+
+    LocalDateTime dateTime = LocalDate.of(2025, 1, 1).atStartOfDay();
+    for (int step = 0; step < 300; step++) {
+      BitSet expected = new BitSet();
+      for (int i = 0; i < ranges.size(); i++) {
+        expected.set(i, ranges.get(i).includes(dateTime));
+      }
+      assertThat(store.findIncluding(dateTime), equalTo(expected));
+      dateTime = step % 10 == 0 ? dateTime.toLocalDate().atTime(LocalTime.MAX)
+          : dateTime.plusMinutes(419);
+    }
+  }
+}
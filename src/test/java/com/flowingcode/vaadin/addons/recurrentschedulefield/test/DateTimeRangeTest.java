@@ -23,9 +23,14 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 import org.junit.Test;
 
 import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
@@ -126,4 +131,305 @@ public class DateTimeRangeTest {
     assertThat(dtr.getPastIntervals(startDate.plusDays(19)).size(), equalTo(4));
   }
 
+  @Test
+  public void testNextIntervalBeforeStartDate() {
+    // Wednesday 9 to Monday 21 (exclusive), Mondays and Fridays
+    DateTimeRange dtr = new DateTimeRange(
+        LocalDate.of(2025, 4, 9),
+        LocalDate.of(2025, 4, 21),
+        LocalTime.NOON,
+        LocalTime.of(20, 30),
+        Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY)
+    );
+
+    TimeInterval first = new TimeInterval(
+        LocalDate.of(2025, 4, 11).atTime(LocalTime.NOON),
+        LocalDate.of(2025, 4, 11).atTime(20, 30));
+
+    // Friday 4 and Monday 7 match the week days, but precede the start date
+    assertThat(dtr.getNextInterval(LocalDate.of(2025, 4, 1)), equalTo(first));
+    assertThat(dtr.getNextInterval(LocalDate.of(2025, 4, 5).atTime(LocalTime.NOON)), equalTo(first));
+    assertThat(dtr.getNextInterval(LocalDate.of(2025, 4, 9)), equalTo(first));
+  }
+
+  @Test
+  public void testIntervalsLeftBeforeStartDate() {
+    // Wednesday 9 to Monday 21 (exclusive), Mondays and Fridays
+    DateTimeRange dtr = new DateTimeRange(
+        LocalDate.of(2025, 4, 9),
+        LocalDate.of(2025, 4, 21),
+        LocalTime.NOON,
+        LocalTime.of(20, 30),
+        Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY)
+    );
+
+    // Friday 4 and Monday 7 precede the start date and are not generated
+    List<TimeInterval> intervals = dtr.getIntervalsLeft(LocalDate.of(2025, 4, 4).atTime(LocalTime.NOON));
+    assertThat(intervals, equalTo(dtr.getIntervals()));
+    assertThat(intervals.get(0).getStartDate(), equalTo(LocalDate.of(2025, 4, 11).atTime(LocalTime.NOON)));
+  }
+
+  @Test
+  public void testIndexedIntervals() {
+    // Thursday 3 to Monday 21 (exclusive) - 08:00 to 10:00 (exclusive)
+    LocalDate startDate = LocalDate.of(2025, 4, 3);
+    LocalDate endDate = LocalDate.of(2025, 4, 21);
+    LocalTime startTime = LocalTime.of(8, 0);
+    LocalTime endTime = LocalTime.of(10, 0);
+
+    DateTimeRange dtr = new DateTimeRange(
+        startDate,
+        endDate,
+        startTime,
+        endTime,
+        Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY, DayOfWeek.SATURDAY)
+    );
+
+    List<TimeInterval> intervals = dtr.getIntervals();
+    assertThat(dtr.getIntervalCount(), equalTo((long) intervals.size()));
+    for (int i = 0; i < intervals.size(); i++) {
+      assertThat(dtr.getInterval(i), equalTo(intervals.get(i)));
+    }
+
+    assertThat(dtr.getIntervals(0, 3), equalTo(intervals.subList(0, 3)));
+    assertThat(dtr.getIntervals(2, 3), equalTo(intervals.subList(2, 5)));
+    assertThat(dtr.getIntervals(6, 10), equalTo(intervals.subList(6, intervals.size())));
+    assertThat(dtr.getIntervals(intervals.size(), 10).size(), equalTo(0));
+
+    // Ten years of working days
+    DateTimeRange longRange = new DateTimeRange(
+        startDate,
+        startDate.plusYears(10),
+        Set.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY)
+    );
+    long count = longRange.getIntervalCount();
+    assertThat(count, equalTo((long) longRange.getIntervals().size()));
+    assertThat(longRange.getInterval(count - 1), equalTo(longRange.getPastIntervals(longRange.getEndDate()).get((int) count - 1)));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testIndexOutOfBounds() {
+    DateTimeRange dtr = new DateTimeRange(LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 14));
+    dtr.getInterval(dtr.getIntervalCount());
+  }
+
+  @Test
+  public void testMonthCoverage() {
+    // Monday 7 to Monday 21 (exclusive) - Mondays and Fridays
+    DateTimeRange dtr = new DateTimeRange(
+        LocalDate.of(2025, 4, 7),
+        LocalDate.of(2025, 4, 21),
+        Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY)
+    );
+
+    int coverage = dtr.getMonthCoverage(YearMonth.of(2025, 4));
+    assertThat(coverage, equalTo(1 << 6 | 1 << 10 | 1 << 13 | 1 << 17));
+    assertThat(dtr.getMonthCoverage(YearMonth.of(2025, 3)), equalTo(0));
+    assertThat(dtr.getMonthCoverage(YearMonth.of(2025, 5)), equalTo(0));
+  }
+
+  @Test
+  public void testExcludedDates() {
+    // Thursday 3 to Monday 21 (exclusive) - Mondays, Fridays and Saturdays - 08:00 to 10:00 (exclusive)
+    DateTimeRange dtr = new DateTimeRange(
+        LocalDate.of(2025, 4, 3),
+        LocalDate.of(2025, 4, 21),
+        LocalTime.of(8, 0),
+        LocalTime.of(10, 0),
+        Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY, DayOfWeek.SATURDAY)
+    );
+    // Friday 4, Tuesday 8 (not included anyway), Saturday 12, Friday 18 and Wednesday 30 (out of range)
+    dtr.setExcludedDates(List.of(LocalDate.of(2025, 4, 4), LocalDate.of(2025, 4, 8),
+        LocalDate.of(2025, 4, 12), LocalDate.of(2025, 4, 18), LocalDate.of(2025, 4, 30)));
+
+    assertThat(dtr.getExcludedDates(), equalTo(new TreeSet<>(List.of(LocalDate.of(2025, 4, 4),
+        LocalDate.of(2025, 4, 8), LocalDate.of(2025, 4, 12), LocalDate.of(2025, 4, 18)))));
+    assertThat(dtr.isExcluded(LocalDate.of(2025, 4, 30)), equalTo(false));
+    assertThat(dtr.includes(LocalDate.of(2025, 4, 4)), equalTo(false));
+    assertThat(dtr.includes(LocalDate.of(2025, 4, 4).atTime(9, 0)), equalTo(false));
+    assertThat(dtr.includes(LocalDate.of(2025, 4, 5)), equalTo(true));
+
+    List<LocalDate> dates = List.of(LocalDate.of(2025, 4, 5), LocalDate.of(2025, 4, 7),
+        LocalDate.of(2025, 4, 11), LocalDate.of(2025, 4, 14), LocalDate.of(2025, 4, 19));
+    List<TimeInterval> intervals = dtr.getIntervals();
+    assertThat(intervals.stream().map(it -> it.getStartDate().toLocalDate()).toList(), equalTo(dates));
+    assertThat(dtr.getIntervalCount(), equalTo((long) dates.size()));
+    for (int i = 0; i < intervals.size(); i++) {
+      assertThat(dtr.getInterval(i), equalTo(intervals.get(i)));
+    }
+    assertThat(dtr.getIntervals(1, 3), equalTo(intervals.subList(1, 4)));
+
+    assertThat(dtr.getNextInterval(LocalDate.of(2025, 4, 1)), equalTo(intervals.get(0)));
+    assertThat(dtr.getNextInterval(LocalDate.of(2025, 4, 15)), equalTo(intervals.get(4)));
+    assertThat(dtr.getIntervalsLeft(LocalDate.of(2025, 4, 8)), equalTo(intervals.subList(2, 5)));
+    assertThat(dtr.getPastIntervals(LocalDate.of(2025, 4, 13)), equalTo(intervals.subList(0, 3)));
+
+    List<TimeInterval> iterated = new ArrayList<>();
+    dtr.iterator(LocalDate.of(2025, 4, 1).atStartOfDay()).forEachRemaining(iterated::add);
+    assertThat(iterated, equalTo(intervals));
+
+    assertThat(dtr.getMonthCoverage(YearMonth.of(2025, 4)),
+        equalTo(1 << 4 | 1 << 6 | 1 << 10 | 1 << 13 | 1 << 18));
+  }
+
+  @Test
+  public void testDailyWindows() {
+    // Mondays and Fridays, from Monday 7 to Monday 21 (exclusive) - 09:00 to 12:00 and 14:00 to 18:00
+    DateTimeRange dtr = new DateTimeRange(
+        LocalDate.of(2025, 4, 7),
+        LocalDate.of(2025, 4, 21),
+        Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY)
+    );
+    dtr.setDailyWindows(LocalTime.of(9, 0), LocalTime.NOON, LocalTime.of(14, 0), LocalTime.of(18, 0));
+
+    assertThat(dtr.getStartTime(), equalTo(LocalTime.of(9, 0)));
+    assertThat(dtr.getEndTime(), equalTo(LocalTime.of(18, 0)));
+    assertThat(dtr.getDayDuration(), equalTo(Duration.ofHours(7)));
+
+    LocalDate monday = LocalDate.of(2025, 4, 7);
+    assertThat(dtr.includes(monday.atTime(8, 59)), equalTo(false));
+    assertThat(dtr.includes(monday.atTime(9, 0)), equalTo(true));
+    assertThat(dtr.includes(monday.atTime(12, 0)), equalTo(false));
+    assertThat(dtr.includes(monday.atTime(13, 0)), equalTo(false));
+    assertThat(dtr.includes(monday.atTime(14, 0)), equalTo(true));
+    assertThat(dtr.includes(monday.atTime(18, 0)), equalTo(false));
+
+    List<TimeInterval> intervals = dtr.getIntervals();
+    assertThat(intervals.size(), equalTo(8));
+    assertThat(intervals.get(0), equalTo(new TimeInterval(monday.atTime(9, 0), monday.atTime(12, 0))));
+    assertThat(intervals.get(1), equalTo(new TimeInterval(monday.atTime(14, 0), monday.atTime(18, 0))));
+    assertThat(dtr.getIntervalCount(), equalTo(8L));
+    for (int i = 0; i < intervals.size(); i++) {
+      assertThat(dtr.getInterval(i), equalTo(intervals.get(i)));
+    }
+    assertThat(dtr.getIntervals(3, 3), equalTo(intervals.subList(3, 6)));
+    assertThat(dtr.getIntervals(7, 3), equalTo(intervals.subList(7, 8)));
+
+    assertThat(dtr.getNextInterval(monday.atTime(13, 0)), equalTo(intervals.get(1)));
+    assertThat(dtr.getNextInterval(monday.atTime(19, 0)), equalTo(intervals.get(2)));
+    assertThat(dtr.getIntervalsLeft(monday.atTime(13, 0)), equalTo(intervals.subList(1, 8)));
+    assertThat(dtr.getPastIntervals(LocalDate.of(2025, 4, 11).atTime(15, 0)), equalTo(intervals.subList(0, 3)));
+
+    List<TimeInterval> iterated = new ArrayList<>();
+    dtr.iterator(monday.atTime(13, 0)).forEachRemaining(iterated::add);
+    assertThat(iterated, equalTo(intervals.subList(1, 8)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testOverlappingDailyWindows() {
+    DateTimeRange dtr = new DateTimeRange(LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 14));
+    dtr.setDailyWindows(LocalTime.of(9, 0), LocalTime.of(13, 0), LocalTime.NOON, LocalTime.of(18, 0));
+  }
+
+  @Test
+  public void testWeekDayWindows() {
+    // Monday to Saturday, from Monday 7 to Monday 21 (exclusive)
+    DateTimeRange dtr = new DateTimeRange(
+        LocalDate.of(2025, 4, 7),
+        LocalDate.of(2025, 4, 21),
+        LocalTime.of(9, 0),
+        LocalTime.of(18, 0),
+        Set.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY,
+            DayOfWeek.FRIDAY, DayOfWeek.SATURDAY)
+    );
+    // Split shift on Wednesdays, short hours on Saturdays, and Wednesday 16 is a holiday
+    dtr.setDailyWindows(DayOfWeek.WEDNESDAY,
+        LocalTime.of(9, 0), LocalTime.NOON, LocalTime.of(14, 0), LocalTime.of(18, 0));
+    dtr.setDailyWindows(DayOfWeek.SATURDAY, LocalTime.of(10, 0), LocalTime.of(14, 0));
+    dtr.setExcludedDates(List.of(LocalDate.of(2025, 4, 16)));
+
+    assertThat(dtr.getDailyWindows(DayOfWeek.SATURDAY),
+        equalTo(List.of(LocalTime.of(10, 0), LocalTime.of(14, 0))));
+    assertThat(dtr.getDayDuration(DayOfWeek.WEDNESDAY), equalTo(Duration.ofHours(7)));
+    assertThat(dtr.getStartTime(), equalTo(LocalTime.of(9, 0)));
+    assertThat(dtr.getEndTime(), equalTo(LocalTime.of(18, 0)));
+
+    LocalDate wednesday = LocalDate.of(2025, 4, 9);
+    LocalDate saturday = LocalDate.of(2025, 4, 12);
+    assertThat(dtr.includes(wednesday.atTime(13, 0)), equalTo(false));
+    assertThat(dtr.includes(wednesday.atTime(15, 0)), equalTo(true));
+    assertThat(dtr.includes(saturday.atTime(9, 30)), equalTo(false));
+    assertThat(dtr.includes(saturday.atTime(13, 30)), equalTo(true));
+    assertThat(dtr.includes(saturday.atTime(15, 0)), equalTo(false));
+    assertThat(dtr.includes(LocalDate.of(2025, 4, 16).atTime(10, 0)), equalTo(false));
+
+    List<TimeInterval> intervals = dtr.getIntervals();
+    assertThat(intervals.size(), equalTo(12));
+    assertThat(dtr.getIntervalCount(), equalTo(12L));
+    for (int i = 0; i < intervals.size(); i++) {
+      assertThat(dtr.getInterval(i), equalTo(intervals.get(i)));
+      assertThat(dtr.getIntervals(i, 2), equalTo(intervals.subList(i, Math.min(i + 2, intervals.size()))));
+    }
+    assertThat(intervals.get(6), equalTo(new TimeInterval(saturday.atTime(10, 0), saturday.atTime(14, 0))));
+
+    assertThat(dtr.getNextInterval(LocalDate.of(2025, 4, 11).atTime(19, 0)), equalTo(intervals.get(6)));
+    assertThat(dtr.getNextInterval(LocalDate.of(2025, 4, 15).atTime(19, 0)),
+        equalTo(new TimeInterval(LocalDate.of(2025, 4, 17).atTime(9, 0), LocalDate.of(2025, 4, 17).atTime(18, 0))));
+
+    List<TimeInterval> iterated = new ArrayList<>();
+    dtr.iterator(wednesday.atTime(13, 0)).forEachRemaining(iterated::add);
+    assertThat(iterated, equalTo(intervals.subList(3, 12)));
+  }
+
+  @Test
+  public void testWeekInterval() {
+    // Mondays and Fridays every other week, from Wednesday April 9 to Sunday June 1 (exclusive)
+    DateTimeRange dtr = new DateTimeRange(
+        LocalDate.of(2025, 4, 9),
+        LocalDate.of(2025, 6, 1),
+        Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY)
+    );
+    dtr.setWeekInterval(2);
+
+    List<LocalDate> dates = List.of(LocalDate.of(2025, 4, 11), LocalDate.of(2025, 4, 21),
+        LocalDate.of(2025, 4, 25), LocalDate.of(2025, 5, 5), LocalDate.of(2025, 5, 9),
+        LocalDate.of(2025, 5, 19), LocalDate.of(2025, 5, 23));
+    assertThat(dtr.getIntervals().stream().map(it -> it.getStartDate().toLocalDate()).toList(),
+        equalTo(dates));
+    assertThat(dtr.getIntervalCount(), equalTo(7L));
+    assertThat(dtr.includes(LocalDate.of(2025, 4, 14)), equalTo(false));
+    assertThat(dtr.includes(LocalDate.of(2025, 4, 21)), equalTo(true));
+    assertThat(dtr.getNextInterval(LocalDate.of(2025, 4, 12)).getStartDate().toLocalDate(),
+        equalTo(LocalDate.of(2025, 4, 21)));
+  }
+
+  @Test
+  public void testWeekIntervalMatchesDayByDay() {
+    // Every third week for twenty years, with different windows and some excluded dates
+    LocalDate startDate = LocalDate.of(2025, 4, 10);
+    DateTimeRange dtr = new DateTimeRange(
+        startDate,
+        startDate.plusYears(20),
+        LocalTime.of(8, 0),
+        LocalTime.of(10, 0),
+        Set.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY, DayOfWeek.SATURDAY)
+    );
+    dtr.setWeekInterval(3);
+    dtr.setDailyWindows(DayOfWeek.SATURDAY,
+        LocalTime.of(9, 0), LocalTime.NOON, LocalTime.of(13, 0), LocalTime.of(15, 0));
+    dtr.setExcludedDates(List.of(
+        LocalDate.of(2025, 4, 12), LocalDate.of(2025, 5, 1), LocalDate.of(2030, 1, 5)));
+
+    LocalDate anchor = LocalDate.of(2025, 4, 7);
+    List<TimeInterval> expected = new ArrayList<>();
+    for (LocalDate date = startDate; date.isBefore(dtr.getEndDate()); date = date.plusDays(1)) {
+      boolean activeWeek = java.time.temporal.ChronoUnit.DAYS.between(anchor, date) / 7 % 3 == 0;
+      if (activeWeek && dtr.getWeekDays().contains(date.getDayOfWeek()) && !dtr.isExcluded(date)) {
+        List<LocalTime> windows = dtr.getDailyWindows(date.getDayOfWeek());
+        for (int i = 0; i < windows.size(); i += 2) {
+          expected.add(new TimeInterval(date.atTime(windows.get(i)), date.atTime(windows.get(i + 1))));
+        }
+      }
+    }
+
+    assertThat(dtr.getIntervals(), equalTo(expected));
+    assertThat(dtr.getIntervalCount(), equalTo((long) expected.size()));
+    for (int i = 0; i < expected.size(); i += 7) {
+      assertThat(dtr.getInterval(i), equalTo(expected.get(i)));
+    }
+    List<TimeInterval> iterated = new ArrayList<>();
+    dtr.iterator(startDate.atStartOfDay()).forEachRemaining(iterated::add);
+    assertThat(iterated, equalTo(expected));
+    assertThat(dtr.getNextInterval(LocalDate.of(2025, 4, 14).atTime(11, 0)), equalTo(expected.get(1)));
+  }
 }
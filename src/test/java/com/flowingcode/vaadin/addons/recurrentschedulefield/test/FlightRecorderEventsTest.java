@@ -0,0 +1,134 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.ui.RecurrentScheduleField;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FlightRecorderEventsTest {
+
+  private static final String INTERVAL_QUERY = "com.flowingcode.recurrentschedulefield.IntervalQuery";
+  private static final String INTERVALS_GENERATION =
+      "com.flowingcode.recurrentschedulefield.IntervalsGeneration";
+  private static final String VALIDATION = "com.flowingcode.recurrentschedulefield.Validation";
+
+  // Mondays and Fridays, from Monday 7 to Monday 21 (exclusive) - 12:00 to 20:30 (exclusive)
+  private final DateTimeRange dtr = new DateTimeRange(LocalDate.of(2025, 4, 7),
+      LocalDate.of(2025, 4, 21), LocalTime.NOON, LocalTime.of(20, 30),
+      Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+
+  private Recording recording;
+
+  @Before
+  public void setup() {
+    recording = new Recording();
+    // Thresholds are removed, so that every event is committed regardless of its duration
+    recording.enable(INTERVAL_QUERY).withThreshold(Duration.ZERO);
+    recording.enable(INTERVALS_GENERATION).withThreshold(Duration.ZERO);
+    recording.enable(VALIDATION).withThreshold(Duration.ZERO);
+    recording.start();
+  }
+
+  @After
+  public void tearDown() {
+    recording.close();
+  }
+
+  @Test
+  public void testIntervalQueryEvent() throws IOException {
+    dtr.includes(LocalDateTime.of(2025, 4, 7, 13, 0));
+    dtr.getNextInterval(LocalDateTime.of(2025, 4, 18, 21, 0));
+
+    List<RecordedEvent> events = stop(INTERVAL_QUERY);
+    assertThat(events.size(), equalTo(2));
+    assertThat(events.get(0).getString("query"), equalTo("includes"));
+    assertThat(events.get(0).getString("argument"), equalTo("2025-04-07T13:00"));
+    assertThat(events.get(0).getBoolean("found"), equalTo(true));
+    assertThat(events.get(1).getString("query"), equalTo("getNextInterval"));
+    assertThat(events.get(1).getString("argument"), equalTo("2025-04-18T21:00"));
+    assertThat(events.get(1).getBoolean("found"), equalTo(false));
+  }
+
+  @Test
+  public void testIntervalsGenerationEvent() throws IOException {
+    dtr.getIntervals();
+
+    List<RecordedEvent> events = stop(INTERVALS_GENERATION);
+    assertThat(events.size(), equalTo(1));
+    assertThat(events.get(0).getString("from"), equalTo("2025-04-07"));
+    assertThat(events.get(0).getString("to"), equalTo("2025-04-21"));
+    assertThat(events.get(0).getLong("spanDays"), equalTo(14L));
+    assertThat(events.get(0).getInt("intervals"), equalTo(4));
+  }
+
+  @Test
+  public void testValidationEvent() throws IOException {
+    RecurrentScheduleField field = new RecurrentScheduleField();
+    field.setValue(dtr);
+    field.clear();
+
+    List<RecordedEvent> events = stop(VALIDATION);
+    assertThat(events.size(), equalTo(2));
+    assertThat(events.get(0).getBoolean("datesValid"), equalTo(true));
+    assertThat(events.get(0).getBoolean("daysValid"), equalTo(true));
+    assertThat(events.get(0).getBoolean("timesValid"), equalTo(true));
+    assertThat(events.get(1).getBoolean("datesValid"), equalTo(false));
+    assertThat(events.get(1).getBoolean("daysValid"), equalTo(false));
+    assertThat(events.get(1).getBoolean("timesValid"), equalTo(false));
+  }
+
+  // Stops the recording and reads back the events of the given type, in commit order
+  private List<RecordedEvent> stop(String eventType) throws IOException {
+    recording.stop();
+    Path file = Files.createTempFile("recurrent-schedule-field", ".jfr");
+    try {
+      recording.dump(file);
+      return RecordingFile.readAllEvents(file).stream()
+          .filter(event -> event.getEventType().getName().equals(eventType))
+          .filter(event -> event.getThread() != null
+              && event.getThread().getJavaThreadId() == Thread.currentThread().getId())
+          .sorted(Comparator.comparing(RecordedEvent::getEndTime))
+          .collect(Collectors.toList());
+    } finally {
+      Files.delete(file);
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.FreeSlotFinder;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.TimeInterval;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+
+public class FreeSlotFinderTest {
+
+  private static final Set<DayOfWeek> WORKING_DAYS = Set.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY,
+      DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY);
+
+  @Test
+  public void testFreeSlots() {
+    // Working days, from Monday 7 to Monday 21 (exclusive) - 09:00 to 13:00 and 14:00 to 18:00
+    DateTimeRange mornings = new DateTimeRange(LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 21),
+        LocalTime.of(9, 0), LocalTime.of(13, 0), WORKING_DAYS);
+    DateTimeRange afternoons = new DateTimeRange(LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 21),
+        LocalTime.of(14, 0), LocalTime.of(18, 0), WORKING_DAYS);
+    FreeSlotFinder finder = new FreeSlotFinder(List.of(mornings, afternoons));
+
+    LocalDateTime from = LocalDateTime.of(2025, 4, 7, 10, 0);
+    LocalDateTime to = LocalDateTime.of(2025, 4, 9, 0, 0);
+    assertThat(finder.find(from, to, Duration.ofHours(1), 3), equalTo(List.of(
+        new TimeInterval(LocalDateTime.of(2025, 4, 7, 13, 0), LocalDateTime.of(2025, 4, 7, 14, 0)),
+        new TimeInterval(LocalDateTime.of(2025, 4, 7, 18, 0), LocalDateTime.of(2025, 4, 8, 9, 0)),
+        new TimeInterval(LocalDateTime.of(2025, 4, 8, 13, 0), LocalDateTime.of(2025, 4, 8, 14, 0)))));
+    assertThat(finder.find(from, to, Duration.ofHours(2), 3), equalTo(List.of(
+        new TimeInterval(LocalDateTime.of(2025, 4, 7, 18, 0), LocalDateTime.of(2025, 4, 8, 9, 0)),
+        new TimeInterval(LocalDateTime.of(2025, 4, 8, 18, 0), to))));
+    assertThat(finder.findFirst(from, LocalDateTime.of(2025, 4, 7, 13, 30), Duration.ofMinutes(30)),
+        equalTo(new TimeInterval(LocalDateTime.of(2025, 4, 7, 13, 0), LocalDateTime.of(2025, 4, 7, 13, 30))));
+    assertThat(finder.findFirst(from, LocalDateTime.of(2025, 4, 7, 13, 30), Duration.ofHours(1)),
+        nullValue());
+  }
+
+  @Test
+  public void testSkipWeeks() {
+    // Working days, whole days, for ten years
+    DateTimeRange weekdays = new DateTimeRange(LocalDate.of(2025, 1, 6), LocalDate.of(2035, 1, 1),
+        WORKING_DAYS);
+    // Saturdays, whole days, for five years
+    DateTimeRange saturdays = new DateTimeRange(LocalDate.of(2025, 1, 6), LocalDate.of(2030, 1, 1),
+        Set.of(DayOfWeek.SATURDAY));
+    FreeSlotFinder finder = new FreeSlotFinder(List.of(weekdays, saturdays));
+
+    LocalDateTime from = LocalDateTime.of(2025, 1, 6, 0, 0);
+    LocalDateTime to = LocalDateTime.of(2040, 1, 1, 0, 0);
+    // Only Sundays are free until the Saturdays range ends
+    assertThat(finder.findFirst(from, to, Duration.ofHours(36)), equalTo(new TimeInterval(
+        LocalDateTime.of(2030, 1, 5, 0, 0), LocalDateTime.of(2030, 1, 7, 0, 0))));
+    assertThat(finder.find(from, to, Duration.ofHours(24), 2), equalTo(List.of(
+        new TimeInterval(LocalDateTime.of(2025, 1, 12, 0, 0), LocalDateTime.of(2025, 1, 13, 0, 0)),
+        new TimeInterval(LocalDateTime.of(2025, 1, 19, 0, 0), LocalDateTime.of(2025, 1, 20, 0, 0)))));
+    // Nothing is busy after the weekdays range ends
+    assertThat(finder.findFirst(from, to, Duration.ofDays(3)), equalTo(new TimeInterval(
+        LocalDateTime.of(2034, 12, 30, 0, 0), to)));
+  }
+
+  @Test
+  public void testSkipWeekIntervals() {
+    // Busy every day for ten years, except for the afternoons of every other Sunday
+    DateTimeRange days = new DateTimeRange(LocalDate.of(2025, 1, 6), LocalDate.of(2035, 1, 1),
+        WORKING_DAYS);
+    DateTimeRange saturdays = new DateTimeRange(LocalDate.of(2025, 1, 6), LocalDate.of(2035, 1, 1),
+        Set.of(DayOfWeek.SATURDAY));
+    DateTimeRange sundays = new DateTimeRange(LocalDate.of(2025, 1, 6), LocalDate.of(2035, 1, 1),
+        Set.of(DayOfWeek.SUNDAY));
+    DateTimeRange mornings = new DateTimeRange(LocalDate.of(2025, 1, 13), LocalDate.of(2035, 1, 1),
+        LocalTime.MIN, LocalTime.NOON, Set.of(DayOfWeek.SUNDAY));
+    sundays.setWeekInterval(2);
+    mornings.setWeekInterval(2);
+    FreeSlotFinder finder = new FreeSlotFinder(List.of(days, saturdays, sundays, mornings));
+
+    LocalDateTime from = LocalDateTime.of(2025, 1, 6, 0, 0);
+    LocalDateTime to = LocalDateTime.of(2040, 1, 1, 0, 0);
+    assertThat(finder.find(from, to, Duration.ofHours(6), 2), equalTo(List.of(
+        new TimeInterval(LocalDateTime.of(2025, 1, 19, 12, 0), LocalDateTime.of(2025, 1, 20, 0, 0)),
+        new TimeInterval(LocalDateTime.of(2025, 2, 2, 12, 0), LocalDateTime.of(2025, 2, 3, 0, 0)))));
+    assertThat(finder.findFirst(from, to, Duration.ofHours(13)), equalTo(new TimeInterval(
+        LocalDateTime.of(2035, 1, 1, 0, 0), to)));
+  }
+}
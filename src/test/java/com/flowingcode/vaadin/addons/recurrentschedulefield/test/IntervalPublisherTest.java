@@ -0,0 +1,151 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.IntervalPublisher;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.TimeInterval;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Flow;
+import org.junit.Test;
+
+public class IntervalPublisherTest {
+
+  // Mondays and Fridays, from Monday 7 to Monday 21 (exclusive) - 12:00 to 20:30 (exclusive)
+  private final DateTimeRange mondaysAndFridays = new DateTimeRange(LocalDate.of(2025, 4, 7),
+      LocalDate.of(2025, 4, 21), LocalTime.NOON, LocalTime.of(20, 30),
+      Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+
+  // Wednesdays, from Monday 7 to Monday 21 (exclusive) - 09:00 to 10:00 (exclusive)
+  private final DateTimeRange wednesdays = new DateTimeRange(LocalDate.of(2025, 4, 7),
+      LocalDate.of(2025, 4, 21), LocalTime.of(9, 0), LocalTime.of(10, 0),
+      Set.of(DayOfWeek.WEDNESDAY));
+
+  private static class RecordingSubscriber implements Flow.Subscriber<TimeInterval> {
+
+    private final List<LocalDateTime> starts = new ArrayList<>();
+    private Flow.Subscription subscription;
+    private boolean completed;
+    private Throwable error;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(TimeInterval item) {
+      starts.add(item.getStartDate());
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+  }
+
+  @Test
+  public void testBackPressure() {
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    IntervalPublisher.of(mondaysAndFridays, LocalDateTime.of(2025, 4, 7, 21, 0))
+        .subscribe(subscriber);
+    assertThat(subscriber.starts.size(), equalTo(0));
+
+    subscriber.subscription.request(2);
+    assertThat(subscriber.starts, equalTo(List.of(
+        LocalDateTime.of(2025, 4, 11, 12, 0),
+        LocalDateTime.of(2025, 4, 14, 12, 0))));
+    assertThat(subscriber.completed, equalTo(false));
+
+    subscriber.subscription.request(Long.MAX_VALUE);
+    assertThat(subscriber.starts.size(), equalTo(3));
+    assertThat(subscriber.completed, equalTo(true));
+  }
+
+  @Test
+  public void testCancel() {
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    IntervalPublisher.of(mondaysAndFridays, LocalDateTime.of(2025, 4, 1, 0, 0))
+        .subscribe(subscriber);
+    subscriber.subscription.request(1);
+    subscriber.subscription.cancel();
+    subscriber.subscription.request(10);
+    assertThat(subscriber.starts.size(), equalTo(1));
+    assertThat(subscriber.completed, equalTo(false));
+  }
+
+  @Test
+  public void testInvalidRequest() {
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    IntervalPublisher.of(mondaysAndFridays, LocalDateTime.of(2025, 4, 1, 0, 0))
+        .subscribe(subscriber);
+    subscriber.subscription.request(0);
+    assertThat(subscriber.error, instanceOf(IllegalArgumentException.class));
+  }
+
+  @Test
+  public void testFailingSubscriber() {
+    RecordingSubscriber subscriber = new RecordingSubscriber() {
+      @Override
+      public void onNext(TimeInterval item) {
+        super.onNext(item);
+        throw new IllegalStateException();
+      }
+    };
+    IntervalPublisher.of(mondaysAndFridays, LocalDateTime.of(2025, 4, 1, 0, 0))
+        .subscribe(subscriber);
+    subscriber.subscription.request(10);
+    subscriber.subscription.request(10);
+    assertThat(subscriber.starts.size(), equalTo(1));
+    assertThat(subscriber.error, equalTo(null));
+    assertThat(subscriber.completed, equalTo(false));
+  }
+
+  @Test
+  public void testMerge() {
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    IntervalPublisher.merge(List.of(mondaysAndFridays, wednesdays), LocalDateTime.of(2025, 4, 1, 0, 0))
+        .subscribe(subscriber);
+    subscriber.subscription.request(Long.MAX_VALUE);
+    assertThat(subscriber.starts, equalTo(List.of(
+        LocalDateTime.of(2025, 4, 7, 12, 0),
+        LocalDateTime.of(2025, 4, 9, 9, 0),
+        LocalDateTime.of(2025, 4, 11, 12, 0),
+        LocalDateTime.of(2025, 4, 14, 12, 0),
+        LocalDateTime.of(2025, 4, 16, 9, 0),
+        LocalDateTime.of(2025, 4, 18, 12, 0))));
+    assertThat(subscriber.completed, equalTo(true));
+  }
+}
@@ -0,0 +1,89 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.Set;
+import org.junit.Test;
+
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.OffHeapDateTimeRangeStore;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.TimeInterval;
+
+public class OffHeapDateTimeRangeStoreTest {
+
+  @Test
+  public void testStore() {
+    OffHeapDateTimeRangeStore store = new OffHeapDateTimeRangeStore();
+    DateTimeRange weekdays = new DateTimeRange(
+        LocalDate.of(2025, 4, 7),
+        LocalDate.of(2025, 5, 7),
+        LocalTime.of(9, 0),
+        LocalTime.of(17, 0),
+        Set.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY,
+            DayOfWeek.FRIDAY)
+    );
+    for (int i = 0; i < 1000; i++) {
+      assertThat(store.add(weekdays), equalTo(i));
+    }
+    DateTimeRange weekend = new DateTimeRange(
+        LocalDate.of(2025, 4, 7),
+        LocalDate.of(2025, 5, 7),
+        LocalTime.of(10, 0),
+        LocalTime.NOON,
+        Set.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY)
+    );
+    store.set(500, weekend);
+
+    LocalDateTime saturday = LocalDateTime.of(2025, 4, 12, 11, 0);
+    BitSet expected = new BitSet();
+    expected.set(500);
+    assertThat(store.size(), equalTo(1000));
+    assertThat(store.findIncluding(saturday), equalTo(expected));
+    assertThat(store.includes(499, LocalDateTime.of(2025, 4, 14, 9, 0)), equalTo(true));
+    assertThat(store.getNextInterval(500, saturday.plusHours(1)), equalTo(new TimeInterval(
+        LocalDateTime.of(2025, 4, 13, 10, 0), LocalDateTime.of(2025, 4, 13, 12, 0))));
+    assertThat(store.get(500).getWeekDays(), equalTo(weekend.getWeekDays()));
+  }
+
+  @Test
+  public void testGrowth() {
+    // Fills a whole buffer, growing from a single range, and spills into the next one
+    OffHeapDateTimeRangeStore store = new OffHeapDateTimeRangeStore(1);
+    DateTimeRange range = new DateTimeRange(LocalDate.of(2025, 4, 7), LocalDate.of(2025, 5, 7));
+    int count = (1 << 20) + 20;
+    for (int i = 0; i < count; i++) {
+      store.add(range);
+    }
+    store.set(count - 1, new DateTimeRange(LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 8)));
+
+    assertThat(store.size(), equalTo(count));
+    assertThat(store.get(0).getEndDate(), equalTo(LocalDate.of(2025, 5, 7)));
+    assertThat(store.get(count - 2).getEndDate(), equalTo(LocalDate.of(2025, 5, 7)));
+    assertThat(store.get(count - 1).getEndDate(), equalTo(LocalDate.of(2025, 4, 8)));
+  }
+}
@@ -0,0 +1,162 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.MonthlyDayRecurrence;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.MonthlyWeekdayRecurrence;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.RecurrenceRule;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.TimeInterval;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.WeeklyRecurrence;
+
+public class RecurrenceRuleTest {
+
+  private static final LocalDate START = LocalDate.of(2023, 11, 15);
+
+  @Test
+  public void testMonthlyDay() {
+    RecurrenceRule rule = new MonthlyDayRecurrence(15);
+
+    assertThat(rule.matches(START, LocalDate.of(2024, 2, 15)), equalTo(true));
+    assertThat(rule.matches(START, LocalDate.of(2024, 2, 16)), equalTo(false));
+    assertThat(rule.next(START, LocalDate.of(2024, 2, 16)), equalTo(LocalDate.of(2024, 3, 15)));
+    assertThat(rule.count(START, START, LocalDate.of(2024, 11, 15)), equalTo(12L));
+    assertThat(rule.count(START, START, LocalDate.of(2024, 11, 16)), equalTo(13L));
+  }
+
+  @Test
+  public void testMonthlyDaySkipsShortMonths() {
+    RecurrenceRule rule = new MonthlyDayRecurrence(31);
+
+    assertThat(rule.next(START, LocalDate.of(2024, 4, 1)), equalTo(LocalDate.of(2024, 5, 31)));
+    assertThat(rule.count(START, LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1)), equalTo(7L));
+    assertThat(new MonthlyDayRecurrence(29).count(
+        START, LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1)), equalTo(12L));
+  }
+
+  @Test
+  public void testMonthlyWeekday() {
+    RecurrenceRule first = new MonthlyWeekdayRecurrence(1, DayOfWeek.MONDAY);
+    RecurrenceRule last = new MonthlyWeekdayRecurrence(MonthlyWeekdayRecurrence.LAST, DayOfWeek.FRIDAY);
+
+    assertThat(first.next(START, START), equalTo(LocalDate.of(2023, 12, 4)));
+    assertThat(first.matches(START, LocalDate.of(2024, 1, 1)), equalTo(true));
+    assertThat(first.matches(START, LocalDate.of(2024, 1, 8)), equalTo(false));
+    assertThat(last.next(START, START), equalTo(LocalDate.of(2023, 11, 24)));
+    assertThat(last.count(START, START, LocalDate.of(2024, 11, 29)), equalTo(12L));
+    assertThat(first.getWeekDays(), equalTo(Set.of(DayOfWeek.MONDAY)));
+  }
+
+  @Test
+  public void testRulesMatchDayByDay() {
+    List<RecurrenceRule> rules = List.of(
+        new WeeklyRecurrence(Set.of(DayOfWeek.TUESDAY, DayOfWeek.SUNDAY), 3),
+        new MonthlyDayRecurrence(1),
+        new MonthlyDayRecurrence(29),
+        new MonthlyDayRecurrence(30),
+        new MonthlyDayRecurrence(31),
+        new MonthlyWeekdayRecurrence(2, DayOfWeek.WEDNESDAY),
+        new MonthlyWeekdayRecurrence(5, DayOfWeek.SATURDAY),
+        new MonthlyWeekdayRecurrence(MonthlyWeekdayRecurrence.LAST, DayOfWeek.SUNDAY));
+    LocalDate end = START.plusYears(9);
+
+    for (RecurrenceRule rule : rules) {
+      List<LocalDate> expected = new ArrayList<>();
+      for (LocalDate date = START; date.isBefore(end); date = date.plusDays(1)) {
+        if (rule.matches(START, date)) {
+          expected.add(date);
+        }
+      }
+      List<LocalDate> actual = new ArrayList<>();
+      LocalDate date = rule.next(START, START);
+      while (date.isBefore(end)) {
+        actual.add(date);
+        date = rule.next(START, date.plusDays(1));
+      }
+      assertThat(actual, equalTo(expected));
+      for (int i = 0; i < expected.size(); i += 5) {
+        assertThat(rule.count(START, START, expected.get(i)), equalTo((long) i));
+        assertThat(rule.count(START, expected.get(i), end), equalTo((long) expected.size() - i));
+      }
+      for (DayOfWeek day : DayOfWeek.values()) {
+        long count = expected.stream().filter(occurrence -> occurrence.getDayOfWeek() == day).count();
+        assertThat(rule.count(START, START, end, day), equalTo(count));
+      }
+    }
+  }
+
+  @Test
+  public void testMonthlyDayCountsByWeekDayAcrossCycles() {
+    // Spans the 400-year cycles that start in 2000 and 2400, from and to mid-month
+    LocalDate from = LocalDate.of(1987, 6, 20);
+    LocalDate to = LocalDate.of(2811, 3, 10);
+    for (int dayOfMonth : new int[] {1, 20, 29, 31}) {
+      RecurrenceRule rule = new MonthlyDayRecurrence(dayOfMonth);
+      long[] expected = new long[7];
+      for (LocalDate date = rule.next(from, from); date.isBefore(to);
+          date = rule.next(from, date.plusDays(1))) {
+        expected[date.getDayOfWeek().ordinal()]++;
+      }
+      for (DayOfWeek day : DayOfWeek.values()) {
+        assertThat(rule.count(from, from, to, day), equalTo(expected[day.ordinal()]));
+      }
+    }
+  }
+
+  @Test
+  public void testMonthlyRange() {
+    // Last Friday of every month, with a split shift and an excluded date
+    DateTimeRange dtr = new DateTimeRange(START, START.plusYears(3));
+    dtr.setRecurrenceRule(new MonthlyWeekdayRecurrence(MonthlyWeekdayRecurrence.LAST, DayOfWeek.FRIDAY));
+    dtr.setDailyWindows(LocalTime.of(9, 0), LocalTime.NOON, LocalTime.of(14, 0), LocalTime.of(18, 0));
+    dtr.setExcludedDates(List.of(LocalDate.of(2024, 12, 27)));
+
+    List<TimeInterval> expected = new ArrayList<>();
+    for (LocalDate date = START; date.isBefore(dtr.getEndDate()); date = date.plusDays(1)) {
+      if (date.getDayOfWeek() == DayOfWeek.FRIDAY && date.plusWeeks(1).getMonth() != date.getMonth()
+          && !dtr.isExcluded(date)) {
+        expected.add(new TimeInterval(date.atTime(9, 0), date.atTime(12, 0)));
+        expected.add(new TimeInterval(date.atTime(14, 0), date.atTime(18, 0)));
+      }
+    }
+
+    assertThat(dtr.getIntervals(), equalTo(expected));
+    assertThat(dtr.getIntervalCount(), equalTo((long) expected.size()));
+    for (int i = 0; i < expected.size(); i++) {
+      assertThat(dtr.getInterval(i), equalTo(expected.get(i)));
+    }
+    assertThat(dtr.getIntervals(3, 4), equalTo(expected.subList(3, 7)));
+    assertThat(dtr.includes(LocalDate.of(2023, 11, 24)), equalTo(true));
+    assertThat(dtr.includes(LocalDate.of(2023, 11, 17)), equalTo(false));
+    assertThat(dtr.getWeekDays(), equalTo(Set.of(DayOfWeek.FRIDAY)));
+    assertThat(dtr.getWeekInterval(), equalTo(1));
+  }
+}
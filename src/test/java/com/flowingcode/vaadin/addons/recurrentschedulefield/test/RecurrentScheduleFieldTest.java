@@ -0,0 +1,214 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.MonthlyDayRecurrence;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.MonthlyWeekdayRecurrence;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.WeeklyRecurrence;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.ui.IntervalsPreview;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.ui.RecurrentScheduleField;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.ui.RecurrentScheduleFieldI18n;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.ui.RecurrentScheduleFieldInstrumentation.Operation;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.ui.RecurrentScheduleFieldMetrics;
+import com.vaadin.flow.component.ClickEvent;
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.HasStyle;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.timepicker.TimePicker;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RecurrentScheduleFieldTest {
+
+  private RecurrentScheduleField field;
+  private RecurrentScheduleFieldMetrics metrics;
+
+  @Before
+  public void setup() {
+    field = new RecurrentScheduleField();
+    metrics = new RecurrentScheduleFieldMetrics();
+    field.setInstrumentation(metrics);
+  }
+
+  @Test
+  public void testSetValueRunsSingleValidation() {
+    DateTimeRange dtr = new DateTimeRange(
+        LocalDate.of(2025, 4, 7),
+        LocalDate.of(2025, 4, 21),
+        LocalTime.NOON,
+        LocalTime.of(20, 30),
+        Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY)
+    );
+    field.setValue(dtr);
+
+    assertThat(field.getValue() == dtr, equalTo(true));
+    assertThat(metrics.getCount(Operation.GENERATE_MODEL_VALUE), equalTo(0L));
+    assertThat(metrics.getCount(Operation.VALIDATION), equalTo(1L));
+    assertThat(metrics.getCount(Operation.REFRESH_UI), equalTo(1L));
+    assertThat(metrics.getCount(Operation.VALUE_CHANGE), equalTo(1L));
+
+    metrics.reset();
+    field.clear();
+
+    assertThat(field.getValue(), equalTo(null));
+    assertThat(metrics.getCount(Operation.GENERATE_MODEL_VALUE), equalTo(0L));
+    assertThat(metrics.getCount(Operation.VALIDATION), equalTo(1L));
+    assertThat(metrics.getCount(Operation.REFRESH_UI), equalTo(1L));
+    assertThat(metrics.getCount(Operation.VALUE_CHANGE), equalTo(1L));
+  }
+
+  @Test
+  public void testChipPressRunsSingleUpdate() {
+    Component chip = descendants(field)
+        .filter(c -> c instanceof HasStyle && ((HasStyle) c).hasClassName("fc-rsf-chip"))
+        .filter(c -> c.getElement().getTextRecursively().equals("Weekdays"))
+        .findFirst().orElseThrow();
+    ComponentUtil.fireEvent(chip, new ClickEvent<>(chip));
+
+    assertThat(metrics.getCount(Operation.GENERATE_MODEL_VALUE), equalTo(1L));
+    assertThat(metrics.getCount(Operation.VALIDATION), equalTo(1L));
+    assertThat(metrics.getCount(Operation.REFRESH_UI), equalTo(1L));
+  }
+
+  @Test
+  public void testExcludedDates() {
+    DateTimeRange dtr = new DateTimeRange(
+        LocalDate.of(2025, 4, 7),
+        LocalDate.of(2025, 4, 21),
+        LocalTime.NOON,
+        LocalTime.of(20, 30),
+        Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY)
+    );
+    dtr.setExcludedDates(List.of(LocalDate.of(2025, 4, 11)));
+    field.setValue(dtr);
+    assertThat(chip("2025-04-11").isPresent(), equalTo(true));
+
+    field.setExcludedDates(LocalDate.of(2025, 4, 14), LocalDate.of(2025, 4, 18));
+    assertThat(chip("2025-04-11").isPresent(), equalTo(false));
+    assertThat(field.getValue().getExcludedDates(),
+        equalTo(Set.of(LocalDate.of(2025, 4, 14), LocalDate.of(2025, 4, 18))));
+    assertThat(field.getValue().getIntervalCount(), equalTo(2L));
+
+    Component chip = chip("2025-04-14").orElseThrow();
+    ComponentUtil.fireEvent(chip, new ClickEvent<>(chip));
+    assertThat(field.getValue().getExcludedDates(), equalTo(Set.of(LocalDate.of(2025, 4, 18))));
+  }
+
+  @Test
+  public void testRecurrenceRule() {
+    DateTimeRange dtr = new DateTimeRange(
+        LocalDate.of(2025, 4, 1),
+        LocalDate.of(2025, 7, 1),
+        LocalTime.NOON,
+        LocalTime.of(20, 30)
+    );
+    dtr.setRecurrenceRule(new MonthlyWeekdayRecurrence(1, DayOfWeek.MONDAY));
+    field.setValue(dtr);
+    // The 15th falls on a Tuesday, a Thursday and a Sunday within the range
+    field.setAllowedWeekDays(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY, DayOfWeek.SUNDAY);
+    field.setRecurrenceRule(new MonthlyDayRecurrence(15));
+
+    assertThat(field.getValue().getRecurrenceRule(), equalTo(new MonthlyDayRecurrence(15)));
+    assertThat(field.getValue().getIntervalCount(), equalTo(3L));
+
+    field.setRecurrenceRule(new WeeklyRecurrence(Set.of(DayOfWeek.TUESDAY), 2));
+    assertThat(field.getValue().getWeekInterval(), equalTo(2));
+    assertThat(field.getValue().getIntervalCount(), equalTo(7L));
+  }
+
+  @Test
+  public void testDailyWindowsAreKept() {
+    DateTimeRange dtr = new DateTimeRange(
+        LocalDate.of(2025, 4, 7),
+        LocalDate.of(2025, 4, 21),
+        Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY)
+    );
+    dtr.setDailyWindows(LocalTime.of(9, 0), LocalTime.NOON, LocalTime.of(13, 0), LocalTime.of(17, 0));
+    dtr.setDailyWindows(DayOfWeek.FRIDAY, LocalTime.of(9, 0), LocalTime.NOON);
+    field.setValue(dtr);
+
+    // Editing other values doesn't merge the windows
+    field.setExcludedDates(LocalDate.of(2025, 4, 14));
+    assertThat(field.getValue().getDailyWindows(DayOfWeek.MONDAY),
+        equalTo(dtr.getDailyWindows(DayOfWeek.MONDAY)));
+    assertThat(field.getValue().getDailyWindows(DayOfWeek.FRIDAY),
+        equalTo(dtr.getDailyWindows(DayOfWeek.FRIDAY)));
+    assertThat(field.getValue().getIntervalCount(), equalTo(4L));
+
+    // Editing the times replaces every window
+    TimePicker startTimePicker = descendants(field)
+        .filter(TimePicker.class::isInstance).map(TimePicker.class::cast)
+        .findFirst().orElseThrow();
+    startTimePicker.setValue(LocalTime.of(10, 0));
+    field.setExcludedDates(LocalDate.of(2025, 4, 14));
+    assertThat(field.getValue().getDailyWindows(DayOfWeek.FRIDAY),
+        equalTo(List.of(LocalTime.of(10, 0), LocalTime.of(17, 0))));
+    assertThat(field.getValue().getIntervalCount(), equalTo(3L));
+  }
+
+  @Test
+  public void testValidationExcludesRefreshUI() {
+    List<Operation> operations = new ArrayList<>();
+    field.setInstrumentation((source, operation, nanos) -> operations.add(operation));
+    field.setValue(new DateTimeRange(LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 21)));
+
+    // Nested operations complete first, so VALIDATION would follow REFRESH_UI if it included it
+    assertThat(operations.indexOf(Operation.VALIDATION) < operations.indexOf(Operation.REFRESH_UI),
+        equalTo(true));
+  }
+
+  @Test
+  public void testPreviewHeadersFollowI18n() {
+    assertThat(headers(new IntervalsPreview()), equalTo(List.of("Week day", "Start", "End")));
+
+    field.setI18n(new RecurrentScheduleFieldI18n().withPreviewHeaders("Dia", "Inicio", "Fin"));
+    assertThat(headers(new IntervalsPreview(field)), equalTo(List.of("Dia", "Inicio", "Fin")));
+  }
+
+  private static List<String> headers(IntervalsPreview preview) {
+    Grid<?> grid = (Grid<?>) preview.getChildren().findFirst().orElseThrow();
+    return grid.getColumns().stream().map(Grid.Column::getHeaderText).toList();
+  }
+
+  private Optional<Component> chip(String text) {
+    return descendants(field)
+        .filter(c -> c instanceof HasStyle && ((HasStyle) c).hasClassName("fc-rsf-chip"))
+        .filter(c -> c.getElement().getTextRecursively().equals(text))
+        .findFirst();
+  }
+
+  private static Stream<Component> descendants(Component component) {
+    return Stream.concat(Stream.of(component),
+        component.getChildren().flatMap(RecurrentScheduleFieldTest::descendants));
+  }
+}
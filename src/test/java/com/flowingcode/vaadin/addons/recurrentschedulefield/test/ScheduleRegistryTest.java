@@ -0,0 +1,110 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Test;
+
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.ScheduleRegistry;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.ScheduleRegistry.Snapshot;
+
+public class ScheduleRegistryTest {
+
+  private static DateTimeRange range(DayOfWeek... weekDays) {
+    return new DateTimeRange(
+        LocalDate.of(2025, 4, 7),
+        LocalDate.of(2025, 5, 7),
+        LocalTime.of(9, 0),
+        LocalTime.of(17, 0),
+        Set.of(weekDays)
+    );
+  }
+
+  @Test
+  public void testSnapshotsAreImmutable() {
+    ScheduleRegistry<String> registry = new ScheduleRegistry<>();
+    DateTimeRange mondays = range(DayOfWeek.MONDAY);
+    registry.put("a", mondays);
+    Snapshot<String> before = registry.snapshot();
+
+    registry.update(batch -> batch.remove("a").put("b", range(DayOfWeek.TUESDAY)));
+    mondays.setWeekDays(Set.of(DayOfWeek.FRIDAY));
+    before.get("a").setAllWeekDays();
+
+    LocalDateTime monday = LocalDateTime.of(2025, 4, 14, 10, 0);
+    assertThat(before.getIds(), equalTo(Set.of("a")));
+    assertThat(before.includes("a", monday), equalTo(true));
+    assertThat(before.get("a").getWeekDays(), equalTo(Set.of(DayOfWeek.MONDAY)));
+    assertThat(registry.snapshot().getIds(), equalTo(Set.of("b")));
+    assertThat(registry.snapshot().getVersion(), equalTo(2L));
+    assertThat(registry.snapshot().findIncluding(monday.plusDays(1)), equalTo(Set.of("b")));
+  }
+
+  @Test
+  public void testReadersSeeWholeBatches() throws Exception {
+    // Writers always move both ranges together, so readers must never see them apart
+    ScheduleRegistry<Integer> registry = new ScheduleRegistry<>();
+    registry.update(batch -> batch.put(1, range(DayOfWeek.MONDAY)).put(2, range(DayOfWeek.MONDAY)));
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    AtomicBoolean done = new AtomicBoolean();
+    LocalDateTime monday = LocalDateTime.of(2025, 4, 14, 10, 0);
+
+    Future<Integer> reader = executor.submit(() -> {
+      int reads = 0;
+      while (!done.get()) {
+        Snapshot<Integer> snapshot = registry.snapshot();
+        assertThat(snapshot.includes(1, monday), equalTo(snapshot.includes(2, monday)));
+        reads++;
+      }
+      return reads;
+    });
+    List<Future<?>> writers = new ArrayList<>();
+    for (DayOfWeek day : List.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY)) {
+      writers.add(executor.submit(() -> {
+        for (int i = 0; i < 500; i++) {
+          registry.update(batch -> batch.put(1, range(day)).put(2, range(day)));
+        }
+      }));
+    }
+    for (Future<?> writer : writers) {
+      writer.get(10, TimeUnit.SECONDS);
+    }
+    done.set(true);
+    reader.get(10, TimeUnit.SECONDS);
+    executor.shutdown();
+
+    assertThat(registry.snapshot().getVersion(), equalTo(1001L));
+  }
+}
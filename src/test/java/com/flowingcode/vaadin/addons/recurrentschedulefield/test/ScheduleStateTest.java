@@ -0,0 +1,93 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.ScheduleState;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Set;
+import org.junit.Test;
+
+public class ScheduleStateTest {
+
+  // Mondays and Fridays, from Monday 7 to Monday 21 (exclusive) - 12:00 to 20:30 (exclusive)
+  private final DateTimeRange dtr = new DateTimeRange(LocalDate.of(2025, 4, 7),
+      LocalDate.of(2025, 4, 21), LocalTime.NOON, LocalTime.of(20, 30),
+      Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+
+  private final ScheduleState state = new ScheduleState(dtr);
+
+  private static Clock at(LocalDateTime dateTime) {
+    return at(dateTime, ZoneOffset.UTC);
+  }
+
+  private static Clock at(LocalDateTime dateTime, ZoneId zone) {
+    return Clock.fixed(dateTime.atZone(zone).toInstant(), zone);
+  }
+
+  @Test
+  public void testTransitions() {
+    Clock before = at(LocalDateTime.of(2025, 4, 1, 0, 0));
+    assertThat(state.isActive(before), equalTo(false));
+    assertThat(state.getNextTransition(before), equalTo(LocalDateTime.of(2025, 4, 7, 12, 0)));
+
+    assertThat(state.isActive(at(LocalDateTime.of(2025, 4, 7, 11, 59))), equalTo(false));
+    assertThat(state.isActive(at(LocalDateTime.of(2025, 4, 7, 12, 0))), equalTo(true));
+    assertThat(state.getNextTransition(at(LocalDateTime.of(2025, 4, 7, 12, 0))),
+        equalTo(LocalDateTime.of(2025, 4, 7, 20, 30)));
+    assertThat(state.isActive(at(LocalDateTime.of(2025, 4, 7, 20, 29, 59))), equalTo(true));
+    assertThat(state.isActive(at(LocalDateTime.of(2025, 4, 7, 20, 30))), equalTo(false));
+    assertThat(state.getNextTransition(at(LocalDateTime.of(2025, 4, 7, 20, 30))),
+        equalTo(LocalDateTime.of(2025, 4, 11, 12, 0)));
+
+    Clock after = at(LocalDateTime.of(2025, 4, 18, 21, 0));
+    assertThat(state.isActive(after), equalTo(false));
+    assertThat(state.getNextTransition(after), nullValue());
+  }
+
+  @Test
+  public void testZoneChange() {
+    LocalDateTime noon = LocalDateTime.of(2025, 4, 7, 12, 0);
+    assertThat(state.isActive(at(noon)), equalTo(true));
+    // Same instant, but 09:00 local time
+    ZoneId zone = ZoneOffset.ofHours(-3);
+    assertThat(state.isActive(Clock.fixed(noon.toInstant(ZoneOffset.UTC), zone)), equalTo(false));
+  }
+
+  @Test
+  public void testInvalidate() {
+    Clock friday = at(LocalDateTime.of(2025, 4, 11, 13, 0));
+    assertThat(state.isActive(friday), equalTo(true));
+    dtr.setWeekDays(Set.of(DayOfWeek.MONDAY));
+    assertThat(state.isActive(friday), equalTo(true));
+    state.invalidate();
+    assertThat(state.isActive(friday), equalTo(false));
+  }
+}
@@ -0,0 +1,180 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.ScheduleTriggerEngine;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.ScheduleTriggerEngine.Trigger;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.ScheduleTriggerEngine.TriggerListener;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.TimeInterval;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+
+public class ScheduleTriggerEngineTest {
+
+  private final MutableClock clock = new MutableClock(LocalDate.of(2025, 4, 6).atStartOfDay());
+  private final ScheduleTriggerEngine engine = new ScheduleTriggerEngine(clock);
+  private final List<String> events = new ArrayList<>();
+
+  private final TriggerListener listener = new TriggerListener() {
+    @Override
+    public void onStart(DateTimeRange range, TimeInterval interval) {
+      events.add("start " + interval.getStartDate());
+    }
+
+    @Override
+    public void onEnd(DateTimeRange range, TimeInterval interval) {
+      events.add("end " + interval.getEndDate());
+    }
+  };
+
+  @Test
+  public void testEdges() {
+    // Mondays and Fridays, from Monday 7 to Monday 21 (exclusive) - 12:00 to 20:30 (exclusive)
+    DateTimeRange dtr = new DateTimeRange(LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 21),
+        LocalTime.NOON, LocalTime.of(20, 30), Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+    engine.register(dtr, listener);
+
+    assertThat(engine.fireDue(), equalTo(0));
+    assertThat(engine.getNextEdge(), equalTo(LocalDateTime.of(2025, 4, 7, 12, 0)));
+
+    clock.set(LocalDateTime.of(2025, 4, 7, 13, 0));
+    assertThat(engine.fireDue(), equalTo(1));
+    assertThat(engine.getNextEdge(), equalTo(LocalDateTime.of(2025, 4, 7, 20, 30)));
+
+    // Skipping several edges fires all of them in order
+    clock.set(LocalDateTime.of(2025, 4, 12, 0, 0));
+    assertThat(engine.fireDue(), equalTo(3));
+    assertThat(events, equalTo(List.of(
+        "start 2025-04-07T12:00",
+        "end 2025-04-07T20:30",
+        "start 2025-04-11T12:00",
+        "end 2025-04-11T20:30")));
+
+    clock.set(LocalDateTime.of(2025, 5, 1, 0, 0));
+    assertThat(engine.fireDue(), equalTo(4));
+    assertThat(engine.size(), equalTo(0));
+  }
+
+  @Test
+  public void testCancel() {
+    DateTimeRange dtr = new DateTimeRange(LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 21));
+    Trigger trigger = engine.register(dtr, listener);
+    engine.register(dtr, listener);
+    assertThat(engine.size(), equalTo(2));
+
+    trigger.cancel();
+    assertThat(engine.size(), equalTo(1));
+
+    clock.set(LocalDateTime.of(2025, 4, 7, 12, 0));
+    assertThat(engine.fireDue(), equalTo(1));
+    assertThat(trigger.isCancelled(), equalTo(true));
+  }
+
+  @Test
+  public void testCancelEarliest() {
+    Trigger trigger = engine.register(
+        new DateTimeRange(LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 21)), listener);
+    engine.register(new DateTimeRange(LocalDate.of(2025, 4, 14), LocalDate.of(2025, 4, 21)),
+        listener);
+
+    // The cancelled edge is skipped even though it is still the earliest one
+    trigger.cancel();
+    trigger.cancel();
+    assertThat(engine.size(), equalTo(1));
+    assertThat(engine.getNextEdge(), equalTo(LocalDateTime.of(2025, 4, 14, 0, 0)));
+  }
+
+  @Test
+  public void testRegisteredRangeIsCopied() {
+    DateTimeRange dtr = new DateTimeRange(LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 21));
+    engine.register(dtr, listener);
+    dtr.setDayDuration(LocalTime.of(9, 0), LocalTime.NOON);
+
+    clock.set(LocalDateTime.of(2025, 4, 8, 1, 0));
+    engine.fireDue();
+    assertThat(events, equalTo(List.of(
+        "start 2025-04-07T00:00",
+        "end 2025-04-07T23:59:59.999999999",
+        "start 2025-04-08T00:00")));
+  }
+
+  @Test
+  public void testFailingListener() {
+    DateTimeRange dtr = new DateTimeRange(LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 21));
+    engine.register(dtr, new TriggerListener() {
+      @Override
+      public void onStart(DateTimeRange range, TimeInterval interval) {
+        throw new IllegalStateException();
+      }
+    });
+    engine.register(dtr, listener);
+
+    // The failure of the first listener doesn't prevent the other edges from firing
+    clock.set(LocalDateTime.of(2025, 4, 8, 12, 0));
+    assertThat(engine.fireDue(), equalTo(6));
+    assertThat(events, equalTo(List.of(
+        "start 2025-04-07T00:00",
+        "end 2025-04-07T23:59:59.999999999",
+        "start 2025-04-08T00:00")));
+    assertThat(engine.size(), equalTo(2));
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private Instant instant;
+
+    private MutableClock(LocalDateTime dateTime) {
+      set(dateTime);
+    }
+
+    private void set(LocalDateTime dateTime) {
+      instant = dateTime.toInstant(ZoneOffset.UTC);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
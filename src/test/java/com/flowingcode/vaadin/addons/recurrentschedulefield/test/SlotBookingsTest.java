@@ -0,0 +1,137 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.SlotBookings;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.TimeSlots;
+
+public class SlotBookingsTest {
+
+  // One week, 09:00 to 12:00, in 30-minute slots: 42 slots
+  private final TimeSlots slots = new TimeSlots(
+      new DateTimeRange(LocalDate.of(2025, 4, 7), LocalDate.of(2025, 4, 14),
+          LocalTime.of(9, 0), LocalTime.NOON),
+      Duration.ofMinutes(30));
+
+  @Test
+  public void testReserveAndRelease() {
+    SlotBookings bookings = new SlotBookings(slots, 2);
+
+    assertThat(bookings.reserve(5), equalTo(true));
+    assertThat(bookings.reserve(5), equalTo(true));
+    assertThat(bookings.reserve(5), equalTo(false));
+    assertThat(bookings.getAvailable(5), equalTo(0));
+    assertThat(bookings.getAvailable(6), equalTo(2));
+
+    bookings.release(5);
+    assertThat(bookings.getReserved(5), equalTo(1));
+  }
+
+  @Test
+  public void testReserveConsecutiveIsAllOrNothing() {
+    SlotBookings bookings = new SlotBookings(slots, 1);
+    bookings.reserve(7);
+
+    assertThat(bookings.reserve(4, 4), equalTo(false));
+    assertThat(bookings.getReserved(4), equalTo(0));
+    assertThat(bookings.getReserved(6), equalTo(0));
+    assertThat(bookings.reserve(8, 3), equalTo(true));
+    assertThat(bookings.getReserved(10), equalTo(1));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testReleaseUnreserved() {
+    new SlotBookings(slots, 1).release(3);
+  }
+
+  @Test
+  public void testReleaseConsecutiveIsAllOrNothing() {
+    SlotBookings bookings = new SlotBookings(slots, 1);
+    bookings.reserve(3);
+
+    try {
+      bookings.release(3, 2);
+      fail();
+    } catch (IllegalStateException e) {
+      // expected
+    }
+    assertThat(bookings.getReserved(3), equalTo(1));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testReserveOutOfRange() {
+    new SlotBookings(slots, 1).reserve(40, 3);
+  }
+
+  @Test
+  public void testConcurrentReservationsNeverOverbook() throws Exception {
+    // Many threads compete for a few overlapping slots
+    SlotBookings bookings = new SlotBookings(slots, 50);
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Integer>> results = new ArrayList<>();
+    for (int t = 0; t < threads; t++) {
+      int first = t % 3;
+      results.add(executor.submit(() -> {
+        start.await();
+        int reserved = 0;
+        for (int i = 0; i < 1000; i++) {
+          if (bookings.reserve(first, 2)) {
+            reserved++;
+          }
+        }
+        return reserved;
+      }));
+    }
+    start.countDown();
+    int total = 0;
+    for (Future<Integer> result : results) {
+      total += result.get(10, TimeUnit.SECONDS);
+    }
+    executor.shutdown();
+
+    int reserved = 0;
+    for (int index = 0; index < 4; index++) {
+      assertThat(bookings.getReserved(index) <= 50, equalTo(true));
+      reserved += bookings.getReserved(index);
+    }
+    // Every successful call reserved exactly two slots
+    assertThat(reserved, equalTo(2 * total));
+    assertThat(bookings.getAvailable(1), equalTo(0));
+  }
+}
@@ -0,0 +1,116 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.DateTimeRange;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.TimeInterval;
+import com.flowingcode.vaadin.addons.recurrentschedulefield.api.TimeSlots;
+
+public class TimeSlotsTest {
+
+  @Test
+  public void testSlots() {
+    // Mondays and Wednesdays, 09:00 to 10:45 - the last 15 minutes don't fit a slot
+    DateTimeRange dtr = new DateTimeRange(
+        LocalDate.of(2025, 4, 7),
+        LocalDate.of(2025, 4, 14),
+        LocalTime.of(9, 0),
+        LocalTime.of(10, 45),
+        Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY)
+    );
+    TimeSlots slots = new TimeSlots(dtr, Duration.ofMinutes(30));
+
+    List<TimeInterval> all = new ArrayList<>();
+    slots.forEach(all::add);
+    assertThat(all.size(), equalTo(6));
+    assertThat(all.get(2), equalTo(new TimeInterval(
+        LocalDateTime.of(2025, 4, 7, 10, 0), LocalDateTime.of(2025, 4, 7, 10, 30))));
+    assertThat(all.get(3), equalTo(new TimeInterval(
+        LocalDateTime.of(2025, 4, 9, 9, 0), LocalDateTime.of(2025, 4, 9, 9, 30))));
+    assertThat(slots.getSlotCount(), equalTo(6L));
+    assertThat(slots.getSlotIndex(LocalDateTime.of(2025, 4, 7, 9, 40)), equalTo(1L));
+    assertThat(slots.getSlotIndex(LocalDateTime.of(2025, 4, 8, 0, 0)), equalTo(3L));
+    assertThat(slots.getSlots(2, 2), equalTo(all.subList(2, 4)));
+    assertThat(slots.iterator(LocalDateTime.of(2025, 4, 9, 10, 29)).next(), equalTo(all.get(5)));
+
+    // Later changes to the range don't affect the slots
+    dtr.setWeekDays(Set.of(DayOfWeek.TUESDAY));
+    dtr.setDailyWindows(LocalTime.of(9, 0), LocalTime.of(9, 30));
+    assertThat(slots.getSlotCount(), equalTo(6L));
+    assertThat(slots.getSlotIndex(LocalDateTime.of(2025, 4, 8, 12, 0)), equalTo(3L));
+    assertThat(slots.getSlots(2, 2), equalTo(all.subList(2, 4)));
+  }
+
+  @Test
+  public void testSlotsMatchIntervals() {
+    // Half a year of split shifts, a full day on Saturdays and some excluded dates
+    LocalDate startDate = LocalDate.of(2025, 4, 10);
+    DateTimeRange dtr = new DateTimeRange(
+        startDate,
+        startDate.plusMonths(6),
+        LocalTime.of(8, 0),
+        LocalTime.of(12, 10),
+        Set.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY, DayOfWeek.SATURDAY)
+    );
+    dtr.setDailyWindows(DayOfWeek.THURSDAY,
+        LocalTime.of(9, 0), LocalTime.NOON, LocalTime.of(13, 0), LocalTime.of(15, 20));
+    dtr.setDailyWindows(DayOfWeek.SATURDAY, LocalTime.MIN, LocalTime.MAX);
+    dtr.setExcludedDates(List.of(LocalDate.of(2025, 4, 12), LocalDate.of(2025, 5, 1)));
+    TimeSlots slots = new TimeSlots(dtr, Duration.ofMinutes(15));
+
+    List<TimeInterval> expected = new ArrayList<>();
+    for (TimeInterval interval : dtr.getIntervals()) {
+      LocalDateTime start = interval.getStartDate();
+      LocalDateTime end = interval.getEndDate().toLocalTime().equals(LocalTime.MAX)
+          ? interval.getEndDate().plusNanos(1) : interval.getEndDate();
+      for (; !start.plusMinutes(15).isAfter(end); start = start.plusMinutes(15)) {
+        LocalDateTime slotEnd = start.plusMinutes(15);
+        expected.add(new TimeInterval(start,
+            slotEnd.equals(end) ? interval.getEndDate() : slotEnd));
+      }
+    }
+
+    List<TimeInterval> generated = new ArrayList<>();
+    slots.forEach(generated::add);
+    assertThat(generated, equalTo(expected));
+    assertThat(slots.getSlotCount(), equalTo((long) expected.size()));
+    for (int i = 0; i < expected.size(); i += 11) {
+      TimeInterval slot = expected.get(i);
+      assertThat(slots.getSlot(i), equalTo(slot));
+      assertThat(slots.getSlotIndex(slot.getStartDate()), equalTo((long) i));
+      assertThat(slots.getSlotIndex(slot.getStartDate().plusMinutes(14)), equalTo((long) i));
+    }
+    int last = expected.size() - 3;
+    assertThat(slots.getSlots(last, 10), equalTo(expected.subList(last, expected.size())));
+  }
+}
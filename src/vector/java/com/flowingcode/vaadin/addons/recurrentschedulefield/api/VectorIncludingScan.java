@@ -0,0 +1,72 @@
+/*-
+ * #%L
+ * RecurrentScheduleField Add-on
+ * %%
+ * Copyright (C) 2025 Flowing Code
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+package com.flowingcode.vaadin.addons.recurrentschedulefield.api;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link IncludingScan} that tests several packed ranges at a time with the Vector API.
+ *
+ * <p>
+ * This class is only compiled with the {@code vector} profile, since the Vector API is an incubator
+ * module, and is only loaded if the {@code jdk.incubator.vector} module has been added at runtime.
+ * The ranges that don't fill a whole vector are scanned by the scalar loop.
+ * </p>
+ *
+ * @author Flowing Code
+ * @see DateTimeRangeStore#findIncluding(java.time.LocalDateTime)
+ */
+final class VectorIncludingScan implements IncludingScan {
+
+  // The results of a vector must not straddle two words of the result
+  private static final VectorSpecies<Long> SPECIES =
+      Long.SIZE % LongVector.SPECIES_PREFERRED.length() == 0
+          ? LongVector.SPECIES_PREFERRED : LongVector.SPECIES_128;
+
+  @Override
+  public boolean scan(long[] dates, long[] times, int size, int day, int dayBit, int minute,
+      int endMinute, long[] words) {
+    int bound = SPECIES.loopBound(size);
+    VectorMask<Long> repeating = SPECIES.maskAll(false);
+    for (int i = 0; i < bound; i += SPECIES.length()) {
+      LongVector packedDates = LongVector.fromArray(SPECIES, dates, i);
+      LongVector packedTimes = LongVector.fromArray(SPECIES, times, i);
+      // Same fields as PackedDateTimeRange, with the days sign-extended
+      LongVector startDay = packedDates.lanewise(VectorOperators.ASHR, 32);
+      LongVector endDay = packedDates.lanewise(VectorOperators.LSHL, 32).lanewise(VectorOperators.ASHR, 32);
+      LongVector startMinute = packedTimes.lanewise(VectorOperators.LSHR, 7).and(0x7FF);
+      LongVector endMinutes = packedTimes.lanewise(VectorOperators.LSHR, 18).and(0x7FF);
+      LongVector weekInterval = packedTimes.lanewise(VectorOperators.LSHR, 29).and(0xFFFF);
+
+      VectorMask<Long> hit = startDay.compare(VectorOperators.LE, day)
+          .and(endDay.compare(VectorOperators.GT, day))
+          .and(packedTimes.and(dayBit).compare(VectorOperators.NE, 0))
+          .and(startMinute.compare(VectorOperators.LE, minute))
+          .and(endMinutes.compare(VectorOperators.GT, endMinute));
+      words[i >>> 6] |= hit.toLong() << i;
+      repeating = repeating.or(hit.and(weekInterval.compare(VectorOperators.NE, 1)));
+    }
+    return DateTimeRangeStore.scan(dates, times, bound, size, day, dayBit, minute, endMinute, words)
+        | repeating.anyTrue();
+  }
+}